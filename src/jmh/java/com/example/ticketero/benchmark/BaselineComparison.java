@@ -0,0 +1,153 @@
+package com.example.ticketero.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara el resultado JSON de JMH con la línea base versionada en {@code src/jmh/baseline.json}.
+ *
+ * <p>La línea base guarda por benchmark el tiempo promedio (ns/op) y los bytes asignados por operación
+ * ({@code gc.alloc.rate.norm} de {@code -prof gc}). Los bytes por operación no dependen de la máquina,
+ * así que son la única señal de regresión; el tiempo se muestra como referencia, ya que solo es comparable
+ * en el mismo equipo y la línea base se graba con un fork.
+ *
+ * <p>Uso: {@code BaselineComparison <resultado.json> <baseline.json> <compare|check|update> <tolerancia>}
+ * <ul>
+ *   <li>{@code compare}: imprime la tabla</li>
+ *   <li>{@code check}: imprime y termina con código 1 si algún benchmark asigna más que la tolerancia</li>
+ *   <li>{@code update}: reescribe la línea base con el resultado</li>
+ * </ul>
+ */
+public class BaselineComparison {
+
+    private static final String PACKAGE_PREFIX = "com.example.ticketero.";
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+    /** Holgura absoluta para asignaciones pequeñas, donde un objeto más ya supera cualquier porcentaje. */
+    private static final double ALLOC_SLACK_BYTES = 16;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("Usage: BaselineComparison <result.json> <baseline.json> <compare|check|update> <tolerance>");
+        }
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        String action = args[2];
+        double tolerance = Double.parseDouble(args[3]);
+
+        Map<String, Score> current = readResult(resultFile);
+        if (action.equals("update")) {
+            writeBaseline(baselineFile, current);
+            System.out.printf("Baseline %s updated with %d benchmarks%n", baselineFile, current.size());
+            return;
+        }
+
+        Map<String, Score> baseline = Files.exists(baselineFile) ? readBaseline(baselineFile) : Map.of();
+        int regressions = 0;
+        System.out.printf("%-58s %12s %12s %8s %10s %10s %8s%n",
+            "Benchmark", "base ns/op", "ns/op", "diff", "base B/op", "B/op", "diff");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-58s %12s %12.1f %8s %10s %10.0f %8s%n",
+                    entry.getKey(), "-", now.nanos(), "new", "-", now.allocBytes(), "new");
+                continue;
+            }
+            boolean allocates = now.allocBytes() > Math.max(base.allocBytes() * (1 + tolerance), base.allocBytes() + ALLOC_SLACK_BYTES);
+            if (allocates) {
+                regressions++;
+            }
+            System.out.printf("%-58s %12.1f %12.1f %8s %10.0f %10.0f %8s%s%n",
+                entry.getKey(), base.nanos(), now.nanos(), delta(base.nanos(), now.nanos()),
+                base.allocBytes(), now.allocBytes(), delta(base.allocBytes(), now.allocBytes()),
+                allocates ? "  REGRESSION" : "");
+        }
+        System.out.printf("%d benchmarks, %d over the %.0f%% B/op tolerance (ns/op is informational)%n",
+            current.size(), regressions, tolerance * 100);
+
+        if (action.equals("check") && regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String delta(double base, double now) {
+        if (base == 0) {
+            return now < 0.5 ? "0%" : "+inf";
+        }
+        return String.format("%+.0f%%", (now - base) / base * 100);
+    }
+
+    private static Map<String, Score> readResult(Path file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.get("benchmark").asText().replace(PACKAGE_PREFIX, ""));
+            JsonNode params = run.get("params");
+            if (params != null) {
+                key.append('[');
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(param.getKey()).append('=').append(param.getValue().asText());
+                    if (fields.hasNext()) {
+                        key.append(',');
+                    }
+                }
+                key.append(']');
+            }
+            scores.put(key.toString(), new Score(run.get("primaryMetric").get("score").asDouble(), allocBytes(run)));
+        }
+        return scores;
+    }
+
+    /**
+     * Según la versión de JMH la métrica secundaria aparece con o sin el prefijo "·".
+     */
+    private static double allocBytes(JsonNode run) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = run.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().replace("·", "").equals(ALLOC_METRIC)) {
+                return metric.getValue().get("score").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    private static Map<String, Score> readBaseline(Path file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        JsonNode benchmarks = MAPPER.readTree(file.toFile()).get("benchmarks");
+        benchmarks.fields().forEachRemaining(entry -> scores.put(entry.getKey(),
+            new Score(entry.getValue().get("nanosPerOp").asDouble(), entry.getValue().get("allocBytesPerOp").asDouble())));
+        return scores;
+    }
+
+    private static void writeBaseline(Path file, Map<String, Score> scores) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode environment = root.putObject("environment");
+        environment.put("date", LocalDate.now().toString());
+        environment.put("jdk", System.getProperty("java.vm.name") + " " + System.getProperty("java.runtime.version"));
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        environment.put("cpus", Runtime.getRuntime().availableProcessors());
+        ObjectNode benchmarks = root.putObject("benchmarks");
+        scores.forEach((name, score) -> {
+            ObjectNode node = benchmarks.putObject(name);
+            node.put("nanosPerOp", Math.round(score.nanos() * 10) / 10.0);
+            node.put("allocBytesPerOp", Math.round(score.allocBytes()));
+        });
+        MAPPER.writeValue(file.toFile(), root);
+    }
+
+    private record Score(double nanos, double allocBytes) {}
+}
@@ -0,0 +1,109 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.projection.TicketView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura de un ticket por UUID con su asesor: entidad ({@code findByUuid} y carga perezosa del asesor,
+ * 2 sentencias) contra la proyección {@link TicketView} (1 sentencia, sin entidades).
+ * Usa H2 en memoria y cada lectura parte de un contexto de persistencia vacío, como una petición HTTP;
+ * el conteo de sentencias lo verifica {@code TicketProjectionTest}.
+ * El camino de Hibernate tarda más en compilarse, por eso el calentamiento es más largo que en el resto.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketReadBenchmark {
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private TicketRepository ticketRepository;
+    private UUID uuid;
+
+    @Setup
+    public void setUp() {
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        // Una conexión reutilizada, como la que entrega el pool en la aplicación
+        factoryBean.setDataSource(new SingleConnectionDataSource(
+            "jdbc:h2:mem:ticket-read;DB_CLOSE_DELAY=-1", "sa", "", true));
+        factoryBean.setPackagesToScan("com.example.ticketero.model.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+            "hibernate.hbm2ddl.auto", "create-drop",
+            "hibernate.cache.use_second_level_cache", "false"));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        Advisor advisor = Advisor.builder()
+            .name("Ana")
+            .moduleNumber(3)
+            .queueType(QueueType.CAJA)
+            .build();
+        entityManager.persist(advisor);
+        Ticket ticket = Ticket.builder()
+            .ticketNumber("C123456")
+            .customerRut("12345678-9")
+            .queueType(QueueType.CAJA)
+            .advisor(advisor)
+            .build();
+        entityManager.persist(ticket);
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Ticket t SET t.status = :status WHERE t.id = :id")
+            .setParameter("status", TicketStatus.ATENDIENDO)
+            .setParameter("id", ticket.getId())
+            .executeUpdate();
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        uuid = ticket.getUuid();
+
+        ticketRepository = new JpaRepositoryFactory(entityManager).getRepository(TicketRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public String entity() {
+        entityManager.clear();
+        Ticket ticket = ticketRepository.findByUuid(uuid).orElseThrow();
+        return ticket.getAdvisor().getName();
+    }
+
+    @Benchmark
+    public String projection() {
+        entityManager.clear();
+        return ticketRepository.findViewByUuid(uuid).orElseThrow().advisorName();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.dto.response.AdvisorResponse;
+import com.example.ticketero.model.dto.response.AlertResponse;
+import com.example.ticketero.model.dto.response.DashboardResponse;
+import com.example.ticketero.model.dto.response.DashboardSummary;
+import com.example.ticketero.model.dto.response.QueueStats;
+import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.QueueType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización del {@link DashboardResponse} a JSON, como la hace {@link DashboardSnapshotService}
+ * una vez por versión: 4 colas, 20 asesores y 3 alertas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private DashboardResponse dashboard;
+
+    @Setup
+    public void setUp() {
+        // Mismos ajustes de fechas que el ObjectMapper de Spring Boot
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<QueueStats> queues = new ArrayList<>();
+        for (QueueType queueType : QueueType.values()) {
+            queues.add(new QueueStats(queueType.name(), 12, queueType.getAverageTimeMinutes() * 3, 2, 3));
+        }
+        List<AdvisorResponse> advisors = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            QueueType queueType = QueueType.values()[i % QueueType.values().length];
+            boolean busy = i % 2 == 0;
+            advisors.add(new AdvisorResponse((long) i, "Asesor " + i, i, queueType.name(),
+                busy ? AdvisorStatus.BUSY.name() : AdvisorStatus.AVAILABLE.name(),
+                busy ? 1000L + i : null, busy ? "C1015" + i : null));
+        }
+        List<AlertResponse> alerts = List.of(
+            new AlertResponse("QUEUE_CRITICAL", "Cola CAJA con 16 tickets en espera", "HIGH", now),
+            new AlertResponse("NO_ADVISORS", "Sin asesores disponibles en GERENCIA", "MEDIUM", now),
+            new AlertResponse("LONG_WAIT", "Espera sobre 30 minutos en EMPRESAS", "MEDIUM", now));
+        dashboard = new DashboardResponse(new DashboardSummary(180, 48, 10, 122, 10, 10, 14.5),
+            queues, advisors, alerts, now);
+    }
+
+    @Benchmark
+    public byte[] toJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dashboard);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.metrics.LifecycleMetrics;
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.MessageType;
+import com.example.ticketero.model.enums.QueueType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renderizado de las tres plantillas de Telegram, incluida la construcción de parámetros.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TelegramServiceBenchmark {
+
+    @Param({"CONFIRMATION", "PRE_NOTICE", "TURN_ACTIVE"})
+    private MessageType template;
+
+    private TelegramService telegramService;
+    private Ticket ticket;
+
+    @Setup
+    public void setUp() {
+        telegramService = new TelegramService(null, null, "123456789", new LifecycleMetrics(new SimpleMeterRegistry()));
+        ticket = Ticket.builder()
+            .ticketNumber("C101530")
+            .customerPhone("+56912345678")
+            .queueType(QueueType.CAJA)
+            .queuePosition(4)
+            .estimatedWaitMinutes(20)
+            .advisor(Advisor.builder().name("Ana").moduleNumber(3).queueType(QueueType.CAJA).build())
+            .build();
+    }
+
+    @Benchmark
+    public String messageText() {
+        return telegramService.getMessageText(template, ticket);
+    }
+}
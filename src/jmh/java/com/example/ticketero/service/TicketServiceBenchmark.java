@@ -0,0 +1,75 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.dto.response.TicketResponse;
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.projection.TicketView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculos y mapeos de {@link TicketService} que no tocan la base: espera estimada
+ * y armado de {@link TicketResponse} desde la entidad y desde la proyección.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketServiceBenchmark {
+
+    private TicketService ticketService;
+    private Ticket ticket;
+    private TicketView view;
+
+    @Setup
+    public void setUp() {
+        ticketService = new TicketService(null, null, null, null, null, null, null, null, null);
+        Advisor advisor = Advisor.builder().id(7L).name("Ana").moduleNumber(3).queueType(QueueType.CAJA).build();
+        LocalDateTime createdAt = LocalDateTime.now();
+        ticket = Ticket.builder()
+            .id(1L)
+            .uuid(UUID.randomUUID())
+            .ticketNumber("C101530")
+            .customerRut("12345678-9")
+            .queueType(QueueType.CAJA)
+            .status(TicketStatus.ATENDIENDO)
+            .queuePosition(4)
+            .estimatedWaitMinutes(20)
+            .advisor(advisor)
+            .createdAt(createdAt)
+            .build();
+        view = new TicketView(ticket.getUuid(), "C101530", QueueType.CAJA, TicketStatus.ATENDIENDO, 4, 20,
+            "Ana", 3, createdAt);
+    }
+
+    @Benchmark
+    public int estimatedWait() {
+        return ticketService.calculateEstimatedWait(25, QueueType.PERSONAL_BANKER, 3);
+    }
+
+    @Benchmark
+    public TicketResponse responseFromEntity() {
+        return ticketService.toResponse(ticket);
+    }
+
+    @Benchmark
+    public TicketResponse responseFromView() {
+        return ticketService.toResponse(view);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.ticketero.util;
+
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.repository.TicketRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posición y espera estimada de {@link QueueCalculator} (RN-010). El repositorio es un stub en memoria
+ * que responde conteos fijos: se mide el cálculo y el registro de debug, no la consulta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueueCalculatorBenchmark {
+
+    @Param({"CAJA", "GERENCIA"})
+    private QueueType queueType;
+
+    private QueueCalculator queueCalculator;
+
+    @Setup
+    public void setUp() {
+        TicketRepository ticketRepository = (TicketRepository) Proxy.newProxyInstance(
+            TicketRepository.class.getClassLoader(),
+            new Class<?>[]{TicketRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("countByQueueTypeAndStatus")) {
+                    return 12L;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        queueCalculator = new QueueCalculator(ticketRepository);
+    }
+
+    @Benchmark
+    public int[] positionAndTime() {
+        return queueCalculator.calculatePositionAndTime(queueType);
+    }
+
+    @Benchmark
+    public int estimatedWaitTime() {
+        return queueCalculator.calculateEstimatedWaitTime(25, queueType);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.ticketero.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de auditoría pendiente de escritura. La fecha se fija al registrarlo, no al escribirlo.
+ */
+public record AuditRecord(
+    String eventType,
+    String entityType,
+    Long entityId,
+    String actor,
+    String oldValue,
+    String newValue,
+    String description,
+    LocalDateTime createdAt
+) {}
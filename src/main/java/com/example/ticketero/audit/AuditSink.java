@@ -0,0 +1,10 @@
+package com.example.ticketero.audit;
+
+/**
+ * Destino de los eventos de auditoría. La implementación se elige con {@code audit.sink}:
+ * {@code database} (por defecto, {@link AuditWriter}) o {@code journal} (diario local en disco).
+ */
+public interface AuditSink {
+
+    void write(AuditRecord record);
+}
@@ -0,0 +1,210 @@
+package com.example.ticketero.audit;
+
+import com.example.ticketero.config.AuditWriterProperties;
+import com.example.ticketero.util.BoundedRingBuffer;
+import com.example.ticketero.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Escritura de auditoría por lotes.
+ * Los eventos se encolan en un {@link BoundedRingBuffer} y un hilo dedicado los inserta
+ * con INSERT multi-fila al completar {@code batch-size} o al cumplirse {@code flush-interval-millis}.
+ * En modo {@code AFTER_COMMIT} solo se encolan eventos de transacciones confirmadas; si la cola
+ * está llena, el evento se inserta en la transacción del llamador, por lo que no se pierde.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.sink", havingValue = "database", matchIfMissing = true)
+@Slf4j
+public class AuditWriter implements AuditSink {
+
+    private static final String INSERT_PREFIX = "INSERT INTO audit_events "
+        + "(event_type, entity_type, entity_id, actor, old_value, new_value, description, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final AuditWriterProperties properties;
+    private final BoundedRingBuffer<AuditRecord> buffer;
+
+    private final Timer flushTimer;
+    private final DistributionSummary flushSize;
+    private final Counter written;
+    private final Counter fallbackWrites;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public AuditWriter(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       AuditWriterProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.buffer = new BoundedRingBuffer<>(properties.getCapacity());
+
+        Gauge.builder("ticketero.audit.queue.depth", buffer, BoundedRingBuffer::size)
+            .description("Audit events waiting to be written")
+            .register(meterRegistry);
+        this.flushTimer = meterRegistry.timer("ticketero.audit.flush");
+        this.flushSize = meterRegistry.summary("ticketero.audit.flush.size");
+        this.written = meterRegistry.counter("ticketero.audit.events.written");
+        this.fallbackWrites = meterRegistry.counter("ticketero.audit.events.fallback");
+        this.failed = meterRegistry.counter("ticketero.audit.events.failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.getMode() == AuditWriterProperties.Mode.SYNC) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("audit-writer").daemon().start(this::runFlusher);
+        log.info("Audit writer started (mode: {}, capacity: {}, batch size: {})",
+            properties.getMode(), buffer.capacity(), properties.getBatchSize());
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = flusher;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    @Override
+    public void write(AuditRecord record) {
+        switch (properties.getMode()) {
+            case SYNC -> insert(List.of(record));
+            case ASYNC -> enqueue(record);
+            case AFTER_COMMIT -> {
+                if (TransactionSynchronizationManager.isSynchronizationActive() && buffer.remainingCapacity() == 0) {
+                    fallbackWrites.increment();
+                    insert(List.of(record));
+                } else {
+                    TransactionHooks.afterCommit(() -> enqueue(record));
+                }
+            }
+        }
+    }
+
+    /**
+     * Escribe de inmediato todo lo que esté en cola.
+     */
+    public void drain() {
+        List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+        AuditRecord record;
+        while ((record = buffer.poll()) != null) {
+            batch.add(record);
+            if (batch.size() >= properties.getBatchSize()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+        flush(batch);
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    private void enqueue(AuditRecord record) {
+        if (!buffer.offer(record)) {
+            fallbackWrites.increment();
+            newTransaction.executeWithoutResult(status -> insert(List.of(record)));
+            return;
+        }
+        Thread thread = flusher;
+        if (thread != null && buffer.size() >= properties.getBatchSize()) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void runFlusher() {
+        int batchSize = properties.getBatchSize();
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMillis());
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        long batchStartedAt = 0;
+
+        while (running) {
+            AuditRecord record;
+            while (batch.size() < batchSize && (record = buffer.poll()) != null) {
+                if (batch.isEmpty()) {
+                    batchStartedAt = System.nanoTime();
+                }
+                batch.add(record);
+            }
+
+            long waited = System.nanoTime() - batchStartedAt;
+            if (batch.size() >= batchSize || (!batch.isEmpty() && waited >= intervalNanos)) {
+                flush(batch);
+                batch.clear();
+            } else {
+                LockSupport.parkNanos(this, batch.isEmpty() ? intervalNanos : intervalNanos - waited);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<AuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<AuditRecord> records = Collections.unmodifiableList(batch);
+        try {
+            flushTimer.record(() -> newTransaction.executeWithoutResult(status -> insert(records)));
+            flushSize.record(records.size());
+            written.increment(records.size());
+        } catch (RuntimeException e) {
+            failed.increment(records.size());
+            log.error("Error writing {} audit events", records.size(), e);
+        }
+    }
+
+    private void insert(List<AuditRecord> records) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(records.size(), ROW_PLACEHOLDERS));
+        List<Object> args = new ArrayList<>(records.size() * 8);
+        for (AuditRecord record : records) {
+            args.add(record.eventType());
+            args.add(record.entityType());
+            args.add(record.entityId());
+            args.add(record.actor());
+            args.add(record.oldValue());
+            args.add(record.newValue());
+            args.add(record.description());
+            args.add(Timestamp.valueOf(record.createdAt()));
+        }
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.ticketero.audit.journal;
+
+import com.example.ticketero.audit.AuditRecord;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Diario de auditoría de solo agregado sobre segmentos mapeados en memoria.
+ * Los eventos se escriben en el segmento activo; al llenarse (o por antigüedad) se sella
+ * y se abre uno nuevo. Los segmentos sellados se consultan con su índice disperso
+ * y se envían a {@code audit_events} con {@link AuditJournalShipper}.
+ * Los segmentos enviados se marcan con un archivo {@code .shipped}.
+ *
+ * <p>Cada segmento se nombra con el id del diario (un UUID generado al crear el directorio) y un
+ * número correlativo que se guarda en disco antes de abrir el segmento. Así el nombre no se repite
+ * aunque los segmentos enviados se eliminen, se reinicie la aplicación o varios nodos carguen
+ * en la misma tabla.
+ */
+@Slf4j
+public class AuditJournal implements AutoCloseable {
+
+    static final String SHIPPED_SUFFIX = ".shipped";
+    static final String ID_FILE = "journal.id";
+    static final String SEQUENCE_FILE = "journal.seq";
+
+    private final Path dir;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final String journalId;
+    private final ConcurrentSkipListMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private volatile JournalSegment active;
+
+    public AuditJournal(Path dir, int segmentSize, int indexInterval) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+        try {
+            Files.createDirectories(dir);
+            journalId = readOrCreateJournalId();
+            try (Stream<Path> files = Files.list(dir)) {
+                files.filter(file -> file.getFileName().toString().endsWith(JournalSegment.SEGMENT_SUFFIX))
+                    .sorted()
+                    .forEach(file -> {
+                        JournalSegment segment = JournalSegment.open(file, indexInterval);
+                        segments.put(segment.getId(), segment);
+                    });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open audit journal at " + dir, e);
+        }
+        long lastId = Math.max(readSequence(), segments.isEmpty() ? 0 : segments.lastKey());
+        active = createSegment(lastId + 1);
+        log.info("Audit journal {} opened at {} ({} sealed segments)", journalId, dir, segments.size() - 1);
+    }
+
+    public synchronized void append(AuditRecord record) {
+        byte[] payload = AuditRecordCodec.encode(record);
+        if (!active.append(record, payload)) {
+            if (active.isEmpty()) {
+                throw new IllegalArgumentException("Audit record larger than journal segment: " + payload.length + " bytes");
+            }
+            roll();
+            active.append(record, payload);
+        }
+    }
+
+    /**
+     * Sella el segmento activo (si tiene datos) y abre uno nuevo.
+     */
+    public synchronized void roll() {
+        if (active.isEmpty()) {
+            return;
+        }
+        active.seal();
+        active = createSegment(active.getId() + 1);
+        log.debug("Audit journal rolled to segment {}", active.getName());
+    }
+
+    public void rollIfOlderThan(Duration maxAge) {
+        if (active.ageNanos() >= maxAge.toNanos()) {
+            roll();
+        }
+    }
+
+    public void force() {
+        active.force();
+    }
+
+    /**
+     * Eventos en el rango de tiempo (inclusive), opcionalmente de una entidad, en orden de escritura.
+     */
+    public List<AuditRecord> find(String entityType, Long entityId, LocalDateTime from, LocalDateTime to) {
+        long fromMicros = AuditRecordCodec.toMicros(from);
+        long toMicros = AuditRecordCodec.toMicros(to);
+        boolean byEntity = entityType != null || entityId != null;
+        Long entityHash = entityType != null && entityId != null
+            ? AuditRecordCodec.entityHash(entityType, entityId)
+            : null;
+
+        List<AuditRecord> result = new ArrayList<>();
+        for (JournalSegment segment : segments.values()) {
+            segment.scan(fromMicros, toMicros, entityHash, record -> {
+                if (record.createdAt().isBefore(from) || record.createdAt().isAfter(to)) {
+                    return;
+                }
+                if (byEntity && !(matches(entityType, record.entityType()) && matches(entityId, record.entityId()))) {
+                    return;
+                }
+                result.add(record);
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Ids de los segmentos sellados que aún no se envían, del más antiguo al más nuevo.
+     */
+    public List<Long> unshippedSegments() {
+        return segments.values().stream()
+            .filter(JournalSegment::isSealed)
+            .filter(segment -> !Files.exists(shippedMarker(segment)))
+            .map(JournalSegment::getId)
+            .sorted(Comparator.naturalOrder())
+            .toList();
+    }
+
+    public void readSegment(long segmentId, Consumer<AuditRecord> consumer) {
+        sealedSegment(segmentId).readAll(consumer);
+    }
+
+    /**
+     * CRC32C de los datos del segmento sellado.
+     */
+    public long checksum(long segmentId) {
+        return sealedSegment(segmentId).checksum();
+    }
+
+    /**
+     * Nombre del archivo del segmento, único entre diarios; es la clave en {@code audit_journal_shipments}.
+     */
+    public String segmentName(long segmentId) {
+        return sealedSegment(segmentId).getName() + JournalSegment.SEGMENT_SUFFIX;
+    }
+
+    /**
+     * Marca el segmento como enviado o, si se pide, elimina sus archivos.
+     */
+    public void markShipped(long segmentId, boolean delete) {
+        JournalSegment segment = segments.get(segmentId);
+        try {
+            if (delete && segment != null) {
+                segments.remove(segmentId);
+                segment.close();
+                Files.deleteIfExists(segment.getFile());
+                Files.deleteIfExists(dir.resolve(segment.getName() + JournalSegment.INDEX_SUFFIX));
+            } else if (segment != null) {
+                Files.createFile(shippedMarker(segment));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot mark audit journal segment " + segmentId + " as shipped", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!active.isEmpty()) {
+            active.seal();
+        }
+        segments.values().forEach(JournalSegment::close);
+        if (active.isEmpty()) {
+            try {
+                Files.deleteIfExists(active.getFile());
+            } catch (IOException e) {
+                log.warn("Cannot delete empty audit journal segment {}", active.getFile(), e);
+            }
+        }
+        log.info("Audit journal closed at {}", dir);
+    }
+
+    private JournalSegment sealedSegment(long segmentId) {
+        JournalSegment segment = segments.get(segmentId);
+        if (segment == null || !segment.isSealed()) {
+            throw new IllegalArgumentException("Audit journal segment not sealed: " + segmentId);
+        }
+        return segment;
+    }
+
+    /**
+     * Guarda el correlativo antes de crear el archivo, para no reutilizarlo aunque el segmento se elimine.
+     */
+    private JournalSegment createSegment(long segmentId) {
+        writeAtomically(dir.resolve(SEQUENCE_FILE), Long.toString(segmentId));
+        JournalSegment segment = JournalSegment.create(dir, journalId, segmentId, segmentSize, indexInterval);
+        segments.put(segmentId, segment);
+        return segment;
+    }
+
+    private String readOrCreateJournalId() throws IOException {
+        Path file = dir.resolve(ID_FILE);
+        if (Files.exists(file)) {
+            return Files.readString(file).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        writeAtomically(file, id);
+        return id;
+    }
+
+    private long readSequence() {
+        Path file = dir.resolve(SEQUENCE_FILE);
+        try {
+            return Files.exists(file) ? Long.parseLong(Files.readString(file).trim()) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read audit journal sequence " + file, e);
+        }
+    }
+
+    private void writeAtomically(Path file, String content) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.writeString(tmp, content);
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + file, e);
+        }
+    }
+
+    private Path shippedMarker(JournalSegment segment) {
+        return dir.resolve(segment.getName() + SHIPPED_SUFFIX);
+    }
+
+    private static boolean matches(Object expected, Object actual) {
+        return expected == null || expected.equals(actual);
+    }
+}
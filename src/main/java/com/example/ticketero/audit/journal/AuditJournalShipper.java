@@ -0,0 +1,192 @@
+package com.example.ticketero.audit.journal;
+
+import com.example.ticketero.audit.AuditRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carga los segmentos sellados del diario en {@code audit_events}.
+ * En PostgreSQL usa COPY; con otras bases recurre a inserciones por lotes.
+ * El registro en {@code audit_journal_shipments} va en la misma transacción que la carga,
+ * por lo que un segmento nunca se carga dos veces. El registro guarda la cantidad de eventos y el
+ * CRC32C del segmento: al reintentar, el segmento solo se da por enviado si ambos coinciden; si no,
+ * queda en disco sin marcar y se informa el conflicto.
+ */
+@Slf4j
+public class AuditJournalShipper {
+
+    private static final String COLUMNS =
+        "event_type, entity_type, entity_id, actor, old_value, new_value, description, created_at";
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final AuditJournal journal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxSegmentAge;
+    private final boolean deleteAfterShip;
+    private final Counter shippedRecords;
+    private final Counter conflicts;
+    private final Timer shipTimer;
+
+    public AuditJournalShipper(AuditJournal journal, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               Duration maxSegmentAge, boolean deleteAfterShip, MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSegmentAge = maxSegmentAge;
+        this.deleteAfterShip = deleteAfterShip;
+        this.shippedRecords = meterRegistry.counter("ticketero.audit.journal.shipped.records");
+        this.conflicts = meterRegistry.counter("ticketero.audit.journal.ship.conflicts");
+        this.shipTimer = meterRegistry.timer("ticketero.audit.journal.ship");
+    }
+
+    /**
+     * Sella el segmento activo si superó la antigüedad máxima y envía todos los sellados pendientes.
+     *
+     * @return Eventos cargados
+     */
+    public long shipPending() {
+        journal.rollIfOlderThan(maxSegmentAge);
+        long total = 0;
+        for (long segmentId : journal.unshippedSegments()) {
+            total += shipTimer.record(() -> ship(segmentId));
+        }
+        return total;
+    }
+
+    private long ship(long segmentId) {
+        String segmentName = journal.segmentName(segmentId);
+        long checksum = journal.checksum(segmentId);
+        List<AuditRecord> records = new ArrayList<>();
+        journal.readSegment(segmentId, records::add);
+
+        Shipment outcome = transactionTemplate.execute(status -> {
+            List<Shipment> existing = jdbcTemplate.query(
+                "SELECT record_count, checksum FROM audit_journal_shipments WHERE segment_name = ?",
+                (rs, rowNum) -> {
+                    long storedChecksum = rs.getLong("checksum");
+                    return new Shipment(rs.getLong("record_count"), rs.wasNull() ? null : storedChecksum);
+                },
+                segmentName);
+            if (!existing.isEmpty()) {
+                return existing.get(0);
+            }
+
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (connection.isWrapperFor(PGConnection.class)) {
+                    copy(connection.unwrap(PGConnection.class), records);
+                } else {
+                    insert(connection, records);
+                }
+                return null;
+            });
+            jdbcTemplate.update(
+                "INSERT INTO audit_journal_shipments (segment_name, record_count, checksum) VALUES (?, ?, ?)",
+                segmentName, records.size(), checksum);
+            return null;
+        });
+
+        long count = records.size();
+        if (outcome != null) {
+            if (!outcome.matches(count, checksum)) {
+                conflicts.increment();
+                log.error("Audit journal segment {} ({} events, checksum {}) does not match its shipment record "
+                        + "({} events, checksum {}); keeping it unshipped",
+                    segmentName, count, checksum, outcome.recordCount(), outcome.checksum());
+                return 0;
+            }
+            log.info("Audit journal segment {} already shipped, marking it", segmentName);
+            count = 0;
+        }
+
+        journal.markShipped(segmentId, deleteAfterShip);
+        shippedRecords.increment(count);
+        log.info("Audit journal segment {} shipped ({} events)", segmentName, count);
+        return count;
+    }
+
+    private void copy(PGConnection connection, List<AuditRecord> records) throws SQLException {
+        CopyIn copyIn = connection.getCopyAPI().copyIn("COPY audit_events (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+        try {
+            for (AuditRecord record : records) {
+                byte[] line = toCsv(record).getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(line, 0, line.length);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void insert(Connection connection, List<AuditRecord> records) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO audit_events (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (AuditRecord record : records) {
+                statement.setString(1, record.eventType());
+                statement.setString(2, record.entityType());
+                statement.setObject(3, record.entityId());
+                statement.setString(4, record.actor());
+                statement.setString(5, record.oldValue());
+                statement.setString(6, record.newValue());
+                statement.setString(7, record.description());
+                statement.setTimestamp(8, Timestamp.valueOf(record.createdAt()));
+                statement.addBatch();
+                if (++pending == INSERT_BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private static String toCsv(AuditRecord record) {
+        return String.join(",",
+            csv(record.eventType()),
+            csv(record.entityType()),
+            record.entityId() != null ? record.entityId().toString() : "",
+            csv(record.actor()),
+            csv(record.oldValue()),
+            csv(record.newValue()),
+            csv(record.description()),
+            csv(record.createdAt().toString())) + "\n";
+    }
+
+    /**
+     * Campo CSV entre comillas; null queda vacío (sin comillas), que COPY interpreta como NULL.
+     */
+    private static String csv(String value) {
+        return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Registro existente en {@code audit_journal_shipments}; {@code checksum} es null en filas anteriores a V15.
+     */
+    private record Shipment(long recordCount, Long checksum) {
+
+        boolean matches(long recordCount, long checksum) {
+            return this.recordCount == recordCount && this.checksum != null && this.checksum == checksum;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ticketero.audit.journal;
+
+import com.example.ticketero.audit.AuditRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Formato binario de un evento en el diario:
+ * {@code createdAt (long, microsegundos) | entityId (long) | 6 textos (int largo, -1 = null; UTF-8)}.
+ * Los textos son, en orden: eventType, entityType, actor, oldValue, newValue, description.
+ */
+final class AuditRecordCodec {
+
+    private static final long NULL_ENTITY_ID = Long.MIN_VALUE;
+
+    private AuditRecordCodec() {
+    }
+
+    static byte[] encode(AuditRecord record) {
+        byte[][] texts = {
+            bytes(record.eventType()), bytes(record.entityType()), bytes(record.actor()),
+            bytes(record.oldValue()), bytes(record.newValue()), bytes(record.description())
+        };
+        int size = Long.BYTES * 2;
+        for (byte[] text : texts) {
+            size += Integer.BYTES + (text != null ? text.length : 0);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(toMicros(record.createdAt()));
+        buffer.putLong(record.entityId() != null ? record.entityId() : NULL_ENTITY_ID);
+        for (byte[] text : texts) {
+            if (text == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(text.length).put(text);
+            }
+        }
+        return buffer.array();
+    }
+
+    static AuditRecord decode(ByteBuffer payload) {
+        LocalDateTime createdAt = fromMicros(payload.getLong());
+        long entityId = payload.getLong();
+        return new AuditRecord(
+            text(payload),
+            text(payload),
+            entityId != NULL_ENTITY_ID ? entityId : null,
+            text(payload),
+            text(payload),
+            text(payload),
+            text(payload),
+            createdAt
+        );
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+    }
+
+    /**
+     * Hash de 64 bits de la entidad, usado por los filtros de Bloom del índice.
+     */
+    static long entityHash(String entityType, Long entityId) {
+        long hash = (entityType != null ? entityType.hashCode() : 0) * 0x9E3779B97F4A7C15L
+            ^ (entityId != null ? entityId : NULL_ENTITY_ID);
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String text(ByteBuffer payload) {
+        int length = payload.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
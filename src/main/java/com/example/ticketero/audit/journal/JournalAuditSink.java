@@ -0,0 +1,21 @@
+package com.example.ticketero.audit.journal;
+
+import com.example.ticketero.audit.AuditRecord;
+import com.example.ticketero.audit.AuditSink;
+import com.example.ticketero.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Escribe la auditoría en el diario local en vez de la base de datos.
+ * El evento se agrega tras el commit, de modo que no quedan registros de transacciones revertidas.
+ */
+@RequiredArgsConstructor
+public class JournalAuditSink implements AuditSink {
+
+    private final AuditJournal journal;
+
+    @Override
+    public void write(AuditRecord record) {
+        TransactionHooks.afterCommit(() -> journal.append(record));
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.ticketero.audit.journal;
+
+import com.example.ticketero.audit.AuditRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Archivo de segmento del diario, mapeado en memoria y de tamaño fijo.
+ * Cada registro es {@code largo (int) | crc32c (int) | payload}; un largo 0 marca el fin de datos.
+ * Al sellarse se escribe el índice en un archivo {@code .idx} junto al segmento;
+ * un segmento sin índice se recupera recorriéndolo hasta el primer registro inválido.
+ * El nombre del archivo es {@code <diario>-<id>}; los segmentos anteriores solo llevan el id.
+ */
+final class JournalSegment implements AutoCloseable {
+
+    static final String SEGMENT_SUFFIX = ".seg";
+    static final String INDEX_SUFFIX = ".idx";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final long id;
+    private final String name;
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final SegmentIndex index;
+    private final long createdAtNanos = System.nanoTime();
+    private volatile int writePosition;
+    private volatile boolean sealed;
+
+    private JournalSegment(long id, String name, Path file, FileChannel channel, MappedByteBuffer buffer,
+                           SegmentIndex index, int writePosition, boolean sealed) {
+        this.id = id;
+        this.name = name;
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.index = index;
+        this.writePosition = writePosition;
+        this.sealed = sealed;
+    }
+
+    static JournalSegment create(Path dir, String journalId, long id, int size, int indexInterval) {
+        String name = journalId + "-" + String.format("%020d", id);
+        Path file = dir.resolve(name + SEGMENT_SUFFIX);
+        try {
+            FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new JournalSegment(id, name, file, channel, buffer, new SegmentIndex(indexInterval), 0, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create audit journal segment " + file, e);
+        }
+    }
+
+    /**
+     * Abre un segmento existente en solo lectura. Si no tiene índice (cierre abrupto),
+     * lo recorre para reconstruirlo y lo sella.
+     */
+    static JournalSegment open(Path file, int indexInterval) {
+        String fileName = file.getFileName().toString();
+        String name = fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length());
+        long id = Long.parseLong(name.substring(name.lastIndexOf('-') + 1));
+        Path indexFile = file.resolveSibling(name + INDEX_SUFFIX);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (Files.exists(indexFile)) {
+                SegmentIndex.Loaded loaded = SegmentIndex.deserialize(Files.readAllBytes(indexFile));
+                return new JournalSegment(id, name, file, channel, buffer, loaded.index(), loaded.endOffset(), true);
+            }
+
+            JournalSegment segment = new JournalSegment(id, name, file, channel, buffer, new SegmentIndex(indexInterval), 0, false);
+            segment.recover();
+            segment.writeIndex();
+            segment.sealed = true;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open audit journal segment " + file, e);
+        }
+    }
+
+    /**
+     * Agrega un registro. Solo lo invoca el hilo que tiene el bloqueo del diario.
+     *
+     * @return {@code false} si no hay espacio en el segmento
+     */
+    boolean append(AuditRecord record, byte[] payload) {
+        int position = writePosition;
+        int end = position + HEADER_BYTES + payload.length;
+        if (end + Integer.BYTES > buffer.capacity()) {
+            return false;
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        buffer.put(position + HEADER_BYTES, payload);
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(position, payload.length);
+        index.add(position, AuditRecordCodec.toMicros(record.createdAt()),
+            AuditRecordCodec.entityHash(record.entityType(), record.entityId()));
+        writePosition = end;
+        return true;
+    }
+
+    /**
+     * Sella el segmento: fuerza los datos a disco y escribe el índice.
+     */
+    void seal() {
+        if (sealed) {
+            return;
+        }
+        buffer.force();
+        writeIndex();
+        sealed = true;
+    }
+
+    void force() {
+        if (!sealed) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Recorre los registros de los bloques que pueden contener eventos en el rango y de la entidad.
+     * El último bloque siempre se recorre porque puede seguir creciendo.
+     */
+    void scan(long fromMicros, long toMicros, Long entityHash, Consumer<AuditRecord> consumer) {
+        int end = writePosition;
+        if (!index.overlaps(fromMicros, toMicros)) {
+            return;
+        }
+        List<SegmentIndex.Block> blocks = index.blocks();
+        for (int i = 0; i < blocks.size(); i++) {
+            SegmentIndex.Block block = blocks.get(i);
+            boolean last = i == blocks.size() - 1;
+            if (!last && (!block.overlaps(fromMicros, toMicros)
+                || (entityHash != null && !block.mightContain(entityHash)))) {
+                continue;
+            }
+            int blockEnd = last ? end : blocks.get(i + 1).offset;
+            read(block.offset, blockEnd, consumer);
+        }
+    }
+
+    void readAll(Consumer<AuditRecord> consumer) {
+        read(0, writePosition, consumer);
+    }
+
+    /**
+     * CRC32C de los datos escritos, para comparar el segmento con lo registrado al enviarlo.
+     */
+    long checksum() {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, writePosition));
+        return crc.getValue();
+    }
+
+    boolean isEmpty() {
+        return writePosition == 0;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    long ageNanos() {
+        return System.nanoTime() - createdAtNanos;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close audit journal segment " + file, e);
+        }
+    }
+
+    private void read(int from, int to, Consumer<AuditRecord> consumer) {
+        int position = from;
+        while (position < to) {
+            int length = buffer.getInt(position);
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            consumer.accept(AuditRecordCodec.decode(ByteBuffer.wrap(payload)));
+            position += HEADER_BYTES + length;
+        }
+    }
+
+    private void recover() {
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > buffer.capacity()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            AuditRecord record = AuditRecordCodec.decode(ByteBuffer.wrap(payload));
+            index.add(position, AuditRecordCodec.toMicros(record.createdAt()),
+                AuditRecordCodec.entityHash(record.entityType(), record.entityId()));
+            position += HEADER_BYTES + length;
+        }
+        writePosition = position;
+    }
+
+    private void writeIndex() {
+        Path indexFile = file.resolveSibling(name + INDEX_SUFFIX);
+        Path tmp = file.resolveSibling(name + INDEX_SUFFIX + ".tmp");
+        try {
+            Files.write(tmp, index.serialize(writePosition));
+            Files.move(tmp, indexFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write audit journal index " + indexFile, e);
+        }
+    }
+}
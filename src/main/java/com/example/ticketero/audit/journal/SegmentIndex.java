@@ -0,0 +1,131 @@
+package com.example.ticketero.audit.journal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Índice disperso de un segmento: un bloque cada {@code interval} registros, con su offset,
+ * rango de tiempo y un filtro de Bloom de las entidades que contiene.
+ * Solo los bloques completos se usan para descartar; el último bloque siempre se recorre.
+ */
+final class SegmentIndex {
+
+    private static final int MAGIC = 0x41494458;
+    private static final int BLOOM_WORDS = 32;
+    private static final int BLOOM_BITS = BLOOM_WORDS * Long.SIZE;
+    private static final int BLOOM_HASHES = 3;
+    private static final int BLOCK_BYTES = Integer.BYTES * 2 + Long.BYTES * (2 + BLOOM_WORDS);
+
+    private final int interval;
+    private final List<Block> blocks = new CopyOnWriteArrayList<>();
+    private volatile long minMicros = Long.MAX_VALUE;
+    private volatile long maxMicros = Long.MIN_VALUE;
+
+    SegmentIndex(int interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Registra un evento escrito en {@code offset}. Solo lo invoca el hilo escritor.
+     */
+    void add(int offset, long micros, long entityHash) {
+        Block block = blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+        if (block == null || block.count == interval) {
+            block = new Block(offset);
+            blocks.add(block);
+        }
+        block.add(micros, entityHash);
+        minMicros = Math.min(minMicros, micros);
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    List<Block> blocks() {
+        return blocks;
+    }
+
+    boolean overlaps(long fromMicros, long toMicros) {
+        return !blocks.isEmpty() && minMicros <= toMicros && maxMicros >= fromMicros;
+    }
+
+    byte[] serialize(int endOffset) {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 4 + blocks.size() * BLOCK_BYTES);
+        buffer.putInt(MAGIC).putInt(interval).putInt(endOffset).putInt(blocks.size());
+        for (Block block : blocks) {
+            buffer.putInt(block.offset).putInt(block.count).putLong(block.minMicros).putLong(block.maxMicros);
+            for (long word : block.bloom) {
+                buffer.putLong(word);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @return El índice y el offset de fin de datos del segmento sellado
+     */
+    static Loaded deserialize(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("Invalid audit journal index");
+        }
+        SegmentIndex index = new SegmentIndex(buffer.getInt());
+        int endOffset = buffer.getInt();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            Block block = new Block(buffer.getInt());
+            block.count = buffer.getInt();
+            block.minMicros = buffer.getLong();
+            block.maxMicros = buffer.getLong();
+            for (int w = 0; w < BLOOM_WORDS; w++) {
+                block.bloom[w] = buffer.getLong();
+            }
+            index.blocks.add(block);
+            index.minMicros = Math.min(index.minMicros, block.minMicros);
+            index.maxMicros = Math.max(index.maxMicros, block.maxMicros);
+        }
+        return new Loaded(index, endOffset);
+    }
+
+    record Loaded(SegmentIndex index, int endOffset) {}
+
+    static final class Block {
+
+        final int offset;
+        volatile int count;
+        volatile long minMicros = Long.MAX_VALUE;
+        volatile long maxMicros = Long.MIN_VALUE;
+        final long[] bloom = new long[BLOOM_WORDS];
+
+        Block(int offset) {
+            this.offset = offset;
+        }
+
+        void add(long micros, long entityHash) {
+            minMicros = Math.min(minMicros, micros);
+            maxMicros = Math.max(maxMicros, micros);
+            int h1 = (int) entityHash;
+            int h2 = (int) (entityHash >>> 32);
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = Math.floorMod(h1 + i * h2, BLOOM_BITS);
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+            count++;
+        }
+
+        boolean overlaps(long fromMicros, long toMicros) {
+            return minMicros <= toMicros && maxMicros >= fromMicros;
+        }
+
+        boolean mightContain(long entityHash) {
+            int h1 = (int) entityHash;
+            int h2 = (int) (entityHash >>> 32);
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = Math.floorMod(h1 + i * h2, BLOOM_BITS);
+                if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
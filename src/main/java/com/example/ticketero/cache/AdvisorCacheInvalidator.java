@@ -0,0 +1,57 @@
+package com.example.ticketero.cache;
+
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.util.TransactionHooks;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalida las cachés de asesores tras un cambio de estado.
+ * La entidad en la región de segundo nivel la actualiza Hibernate en este nodo; los conteos se vacían
+ * tras el commit y, con un {@link CacheInvalidationBus}, los demás nodos hacen lo mismo con ambas cachés.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdvisorCacheInvalidator {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<CacheInvalidationBus> invalidationBus;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Debe llamarse dentro de la transacción que modifica el asesor.
+     */
+    public void advisorChanged(Long advisorId) {
+        TransactionHooks.afterCommit(this::clearCounts);
+        invalidationBus.ifAvailable(bus -> bus.publish(new CacheInvalidation(CacheNames.ADVISORS, advisorId)));
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidation invalidation) {
+        if (!CacheNames.ADVISORS.equals(invalidation.cacheName())) {
+            return;
+        }
+        if (invalidation.id() == null) {
+            entityManagerFactory.getCache().evict(Advisor.class);
+        } else {
+            entityManagerFactory.getCache().evict(Advisor.class, invalidation.id());
+        }
+        clearCounts();
+        log.debug("Advisor caches invalidated by another node (advisor {})", invalidation.id());
+    }
+
+    private void clearCounts() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache counts = manager != null ? manager.getCache(CacheNames.ADVISOR_COUNTS) : null;
+        if (counts != null) {
+            counts.clear();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.ticketero.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+/**
+ * Gauge {@code ticketero.cache.hit.ratio} (0..1) por caché, a partir de las estadísticas JCache
+ * ({@code monitoring.statistics} en {@code application.conf}). Los contadores de aciertos y fallos
+ * los publica Actuator como {@code cache.gets}.
+ */
+@Slf4j
+public class CacheHitRatioMetrics {
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public CacheHitRatioMetrics(MeterRegistry meterRegistry, String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            Gauge.builder("ticketero.cache.hit.ratio", () -> hitRatio(cacheName))
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        }
+    }
+
+    private double hitRatio(String cacheName) {
+        try {
+            Set<ObjectName> names = mBeanServer.queryNames(
+                new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*"), null);
+            if (names.isEmpty()) {
+                return Double.NaN;
+            }
+            Object percentage = mBeanServer.getAttribute(names.iterator().next(), "CacheHitPercentage");
+            return ((Number) percentage).doubleValue() / 100;
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Exception e) {
+            log.debug("Cache statistics unavailable for {}: {}", cacheName, e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
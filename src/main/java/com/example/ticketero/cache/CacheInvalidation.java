@@ -0,0 +1,8 @@
+package com.example.ticketero.cache;
+
+/**
+ * Invalidación recibida de otro nodo: la entrada {@code id} de la caché {@code cacheName},
+ * o la caché completa si {@code id} es null.
+ */
+public record CacheInvalidation(String cacheName, Long id) {
+}
@@ -0,0 +1,13 @@
+package com.example.ticketero.cache;
+
+/**
+ * Canal de invalidación entre nodos. Las invalidaciones recibidas se publican
+ * como {@link CacheInvalidation} en el contexto de Spring.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Publica la invalidación; solo se entrega a los demás nodos si la transacción actual confirma.
+     */
+    void publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,16 @@
+package com.example.ticketero.cache;
+
+/**
+ * Nombres de las cachés JCache declaradas en {@code application.conf}.
+ */
+public final class CacheNames {
+
+    /** Región de segundo nivel de {@code Advisor}. */
+    public static final String ADVISORS = "advisors";
+
+    /** Conteos de asesores por (estado, cola). */
+    public static final String ADVISOR_COUNTS = "advisorCounts";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.ticketero.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invalidación entre nodos con LISTEN/NOTIFY de PostgreSQL.
+ * {@code pg_notify} se ejecuta en la transacción del llamador, así que PostgreSQL solo entrega el aviso
+ * si esa transacción confirma. Cada nodo mantiene una conexión escuchando el canal y descarta sus propios avisos;
+ * tras reconectar invalida las cachés completas, porque pudo perder avisos mientras estuvo desconectado.
+ */
+@Slf4j
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "ticketero_cache_invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+    private volatile Thread listener;
+
+    public PostgresCacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+        log.info("Cache invalidation listener started on channel {} (node {})", CHANNEL, nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = listener;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        String payload = nodeId + "|" + invalidation.cacheName() + "|" + (invalidation.id() == null ? "" : invalidation.id());
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, CHANNEL, payload);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                eventPublisher.publishEvent(new CacheInvalidation(CacheNames.ADVISORS, null));
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(1000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying: {}", e.getMessage());
+                try {
+                    TimeUnit.SECONDS.sleep(5);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("Error handling cache invalidation", e);
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        Long id = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+        eventPublisher.publishEvent(new CacheInvalidation(parts[1], id));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ticketero.channel;
+
+/**
+ * Canal de salida para notificaciones al cliente.
+ * La implementación activa se elige con {@code notification.channel}.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Nombre del canal, usado en logs y métricas.
+     */
+    String name();
+
+    /**
+     * Envía un texto al chat indicado.
+     *
+     * @return Identificador del mensaje asignado por el proveedor
+     * @throws NotificationChannelException si el proveedor rechaza o no responde
+     */
+    String send(String chatId, String text);
+}
@@ -0,0 +1,27 @@
+package com.example.ticketero.channel;
+
+/**
+ * Error de envío por un {@link NotificationChannel}.
+ * Si el proveedor limitó la tasa (HTTP 429), {@link #getRetryAfterSeconds()} indica la espera sugerida.
+ */
+public class NotificationChannelException extends RuntimeException {
+
+    private final Integer retryAfterSeconds;
+
+    public NotificationChannelException(String message) {
+        this(message, null, null);
+    }
+
+    public NotificationChannelException(String message, Integer retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Integer getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public boolean isRateLimited() {
+        return retryAfterSeconds != null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.ticketero.channel;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Canal en proceso que solo registra los envíos.
+ * Pensado para pruebas de carga y tests: recorre todo el flujo de envío sin salir de la JVM.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.channel", havingValue = "recording")
+public class RecordingChannel implements NotificationChannel {
+
+    /** Solo se conservan los últimos envíos para acotar memoria en cargas largas. */
+    private static final int MAX_RETAINED = 10_000;
+
+    private final ConcurrentLinkedQueue<SentMessage> sent = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retained = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public String name() {
+        return "recording";
+    }
+
+    @Override
+    public String send(String chatId, String text) {
+        String messageId = String.valueOf(sequence.incrementAndGet());
+        sent.add(new SentMessage(messageId, chatId, text));
+        if (retained.incrementAndGet() > MAX_RETAINED && sent.poll() != null) {
+            retained.decrementAndGet();
+        }
+        return messageId;
+    }
+
+    public List<SentMessage> getSent() {
+        return new ArrayList<>(sent);
+    }
+
+    public long getSentCount() {
+        return sequence.get();
+    }
+
+    public void clear() {
+        sent.clear();
+        retained.set(0);
+    }
+
+    public record SentMessage(String messageId, String chatId, String text) {}
+}
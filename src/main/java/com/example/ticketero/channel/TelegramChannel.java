@@ -0,0 +1,130 @@
+package com.example.ticketero.channel;
+
+import com.example.ticketero.channel.stub.TelegramStubServer;
+import com.example.ticketero.config.TelegramConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Canal Telegram Bot API ({@code sendMessage}).
+ * Si el stub local está activo, las llamadas HTTP van a él en lugar de api.telegram.org.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.channel", havingValue = "telegram", matchIfMissing = true)
+@Slf4j
+public class TelegramChannel implements NotificationChannel {
+
+    private final TelegramConfig telegramConfig;
+    private final RestTemplate restTemplate;
+    private final TelegramStubServer stubServer;
+
+    public TelegramChannel(TelegramConfig telegramConfig, RestTemplate restTemplate,
+                           ObjectProvider<TelegramStubServer> stubServer) {
+        this.telegramConfig = telegramConfig;
+        this.restTemplate = restTemplate;
+        this.stubServer = stubServer.getIfAvailable();
+    }
+
+    @Override
+    public String name() {
+        return "telegram";
+    }
+
+    @Override
+    public String send(String chatId, String text) {
+        if (stubServer == null && (telegramConfig.getBotToken() == null || telegramConfig.getBotToken().isEmpty())) {
+            log.warn("Telegram bot token not configured, simulating message send");
+            return "msg_" + System.currentTimeMillis();
+        }
+
+        String baseUrl = stubServer != null ? stubServer.getBaseUrl() + "/bot" + telegramConfig.getBotToken()
+                                            : telegramConfig.getFullApiUrl();
+
+        Map<String, Object> payload = Map.of(
+            "chat_id", chatId,
+            "text", text,
+            "parse_mode", "HTML"
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        try {
+            JsonNode response = restTemplate.postForObject(
+                baseUrl + "/sendMessage", new HttpEntity<>(payload, headers), JsonNode.class);
+
+            if (response == null || !response.path("ok").asBoolean()) {
+                throw new NotificationChannelException("Telegram API error: " + response);
+            }
+            return response.path("result").path("message_id").asText();
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == 429) {
+                int retryAfter = retryAfter(e);
+                throw new NotificationChannelException("Telegram rate limit, retry after " + retryAfter + "s", retryAfter, e);
+            }
+            throw new NotificationChannelException("Telegram API error: " + e.getStatusCode(), null, e);
+        } catch (RestClientException e) {
+            throw new NotificationChannelException("Telegram API unreachable: " + e.getMessage(), null, e);
+        }
+    }
+
+    private int retryAfter(HttpStatusCodeException e) {
+        try {
+            JsonNode body = e.getResponseBodyAs(JsonNode.class);
+            if (body != null && body.path("parameters").has("retry_after")) {
+                return body.path("parameters").path("retry_after").asInt();
+            }
+        } catch (RuntimeException ignored) {
+            // cuerpo no JSON: usar cabecera o valor por defecto
+        }
+        String header = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst("Retry-After") : null;
+        Integer seconds = parseRetryAfter(header, Instant.now());
+        if (seconds == null) {
+            if (header != null) {
+                log.warn("Unparseable Retry-After header '{}', using configured backoff", header);
+            }
+            return telegramConfig.getRateLimitBackoffSeconds();
+        }
+        return seconds;
+    }
+
+    /**
+     * Cabecera Retry-After (RFC 9110): segundos de espera o una fecha HTTP (RFC 1123).
+     *
+     * @return segundos a esperar (0 si la fecha ya pasó), o null si falta o no se puede interpretar
+     */
+    static Integer parseRetryAfter(String header, Instant now) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String value = header.trim();
+        try {
+            return Math.max(0, Integer.parseInt(value));
+        } catch (NumberFormatException notSeconds) {
+            // puede ser una fecha HTTP
+        }
+        try {
+            Instant retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            long millis = Duration.between(now, retryAt).toMillis();
+            return (int) Math.max(0, (millis + 999) / 1000);
+        } catch (DateTimeParseException notDate) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.ticketero.channel.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor HTTP local que imita {@code POST /bot<token>/sendMessage} de Telegram Bot API.
+ * Permite ejercitar el camino HTTP real sin red, con latencia, tasa de errores 5xx
+ * y tasa de respuestas 429 (con {@code retry_after}) configurables.
+ *
+ * <p>Se puede levantar dentro de la aplicación ({@code telegram.stub.enabled=true})
+ * o de forma independiente con {@link #main(String[])}.
+ */
+@Slf4j
+public class TelegramStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final int retryAfterSeconds;
+
+    private final AtomicLong messageIds = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+
+    public TelegramStubServer(int port, long latencyMillis, double errorRate,
+                              double rateLimitRate, int retryAfterSeconds) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public void start() {
+        server.start();
+        log.info("Telegram stub listening on {} (latency: {}ms, errors: {}, 429s: {})",
+            getBaseUrl(), latencyMillis, errorRate, rateLimitRate);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimited.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+
+            if (!"POST".equals(exchange.getRequestMethod())
+                || !exchange.getRequestURI().getPath().matches("/bot[^/]*/sendMessage")) {
+                respond(exchange, 404, "{\"ok\":false,\"error_code\":404,\"description\":\"Not Found\"}");
+                return;
+            }
+
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rateLimitRate) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(retryAfterSeconds));
+                respond(exchange, 429, """
+                    {"ok":false,"error_code":429,"description":"Too Many Requests: retry after %d","parameters":{"retry_after":%d}}"""
+                    .formatted(retryAfterSeconds, retryAfterSeconds));
+            } else if (roll < rateLimitRate + errorRate) {
+                failed.incrementAndGet();
+                respond(exchange, 502, "{\"ok\":false,\"error_code\":502,\"description\":\"Bad Gateway\"}");
+            } else {
+                accepted.incrementAndGet();
+                long messageId = messageIds.incrementAndGet();
+                respond(exchange, 200, """
+                    {"ok":true,"result":{"message_id":%d,"date":%d}}"""
+                    .formatted(messageId, System.currentTimeMillis() / 1000));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Uso: {@code TelegramStubServer [port] [latencyMillis] [errorRate] [rateLimitRate] [retryAfterSeconds]}
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8081;
+        long latency = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        double errors = args.length > 2 ? Double.parseDouble(args[2]) : 0.0;
+        double rateLimits = args.length > 3 ? Double.parseDouble(args[3]) : 0.0;
+        int retryAfter = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        TelegramStubServer stub = new TelegramStubServer(port, latency, errors, rateLimits, retryAfter);
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        stub.start();
+    }
+}
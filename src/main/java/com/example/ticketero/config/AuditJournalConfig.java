@@ -0,0 +1,41 @@
+package com.example.ticketero.config;
+
+import com.example.ticketero.audit.journal.AuditJournal;
+import com.example.ticketero.audit.journal.AuditJournalShipper;
+import com.example.ticketero.audit.journal.JournalAuditSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Auditoría sobre el diario en disco ({@code audit.sink=journal}) con envío periódico a la base de datos.
+ */
+@Configuration
+@ConditionalOnProperty(name = "audit.sink", havingValue = "journal")
+public class AuditJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public AuditJournal auditJournal(AuditJournalProperties properties) {
+        return new AuditJournal(Paths.get(properties.getDir()), properties.getSegmentSizeBytes(),
+            properties.getIndexInterval());
+    }
+
+    @Bean
+    public JournalAuditSink journalAuditSink(AuditJournal auditJournal) {
+        return new JournalAuditSink(auditJournal);
+    }
+
+    @Bean
+    public AuditJournalShipper auditJournalShipper(AuditJournal auditJournal, JdbcTemplate jdbcTemplate,
+                                                   TransactionTemplate transactionTemplate,
+                                                   AuditJournalProperties properties, MeterRegistry meterRegistry) {
+        return new AuditJournalShipper(auditJournal, jdbcTemplate, transactionTemplate,
+            Duration.ofSeconds(properties.getMaxSegmentAgeSeconds()), properties.isDeleteAfterShip(), meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.ticketero.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del diario de auditoría en disco (prefijo {@code audit.journal}).
+ * Solo se usa con {@code audit.sink=journal}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit.journal")
+@Getter
+@Setter
+public class AuditJournalProperties {
+
+    private String dir = "./audit-journal";
+
+    /** Tamaño de cada segmento mapeado en memoria. */
+    private int segmentSizeBytes = 64 * 1024 * 1024;
+
+    /** Eventos por entrada del índice disperso. */
+    private int indexInterval = 256;
+
+    /** Antigüedad máxima del segmento activo antes de sellarlo para su envío. */
+    private long maxSegmentAgeSeconds = 300;
+
+    private long shipIntervalMillis = 10_000;
+
+    /** Cada cuánto se fuerzan a disco las páginas del segmento activo. */
+    private long forceIntervalMillis = 1_000;
+
+    /** Eliminar los segmentos una vez cargados en la base de datos. */
+    private boolean deleteAfterShip = false;
+}
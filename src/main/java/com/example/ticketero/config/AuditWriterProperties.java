@@ -0,0 +1,36 @@
+package com.example.ticketero.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de escritura de auditoría (prefijo {@code audit.writer}).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit.writer")
+@Getter
+@Setter
+public class AuditWriterProperties {
+
+    public enum Mode {
+        /** Inserción en la transacción del llamador. */
+        SYNC,
+        /** Encola al momento; los eventos de transacciones que hacen rollback también se registran. */
+        ASYNC,
+        /** Encola tras el commit; si la cola está llena, inserta en la transacción del llamador. */
+        AFTER_COMMIT
+    }
+
+    private Mode mode = Mode.AFTER_COMMIT;
+
+    /** Eventos en cola (se redondea a potencia de dos). */
+    private int capacity = 8192;
+
+    /** Filas por INSERT multi-fila. */
+    private int batchSize = 500;
+
+    /** Espera máxima de un evento en cola antes de escribirse. */
+    private long flushIntervalMillis = 200;
+}
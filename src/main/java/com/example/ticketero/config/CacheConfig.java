@@ -0,0 +1,54 @@
+package com.example.ticketero.config;
+
+import com.example.ticketero.cache.CacheHitRatioMetrics;
+import com.example.ticketero.cache.CacheNames;
+import com.example.ticketero.cache.PostgresCacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.cache.CacheManager;
+import javax.sql.DataSource;
+
+/**
+ * Cachés en proceso (JCache sobre Caffeine, configuradas en {@code application.conf}).
+ * Hibernate usa el mismo CacheManager que Spring para su caché de segundo nivel, de modo que
+ * todas las cachés se ven en las métricas de Actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public JCacheManagerCustomizer ticketeroCaches() {
+        return cacheManager -> {
+            // Crea las cachés desde application.conf antes de que Spring y Actuator las enumeren
+            cacheManager.getCache(CacheNames.ADVISORS);
+            cacheManager.getCache(CacheNames.ADVISOR_COUNTS);
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sharedJCacheManager(CacheManager cacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    @Bean
+    public CacheHitRatioMetrics cacheHitRatioMetrics(MeterRegistry meterRegistry) {
+        return new CacheHitRatioMetrics(meterRegistry, CacheNames.ADVISORS, CacheNames.ADVISOR_COUNTS);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.cluster-invalidation", havingValue = "postgres")
+    public PostgresCacheInvalidationBus postgresCacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                                                     ApplicationEventPublisher eventPublisher) {
+        return new PostgresCacheInvalidationBus(jdbcTemplate, dataSource, eventPublisher);
+    }
+}
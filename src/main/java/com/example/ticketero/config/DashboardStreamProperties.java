@@ -0,0 +1,33 @@
+package com.example.ticketero.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Difusión SSE del dashboard (prefijo {@code dashboard.stream}).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.stream")
+@Validated
+@Getter
+@Setter
+public class DashboardStreamProperties {
+
+    /** Tope de eventos delta por segundo; el período de publicación se deriva de este valor. */
+    @Min(1)
+    @Max(1000)
+    private int maxUpdatesPerSecond = 2;
+
+    /** Vida máxima de una conexión SSE antes de que el cliente deba reconectarse. */
+    @Min(1)
+    private long timeoutMs = 1_800_000;
+
+    public long getPublishIntervalMs() {
+        return 1000L / maxUpdatesPerSecond;
+    }
+}
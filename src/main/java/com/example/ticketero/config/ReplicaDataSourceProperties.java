@@ -0,0 +1,35 @@
+package com.example.ticketero.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Réplica de lectura (prefijo {@code datasource.replica}).
+ * El pool de la réplica se ajusta por separado bajo {@code datasource.replica.hikari}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName = "org.postgresql.Driver";
+
+    /** Con un retraso de replicación mayor, todas las lecturas vuelven al primario. */
+    private long maxLagMillis = 2000;
+
+    /** Tiempo durante el cual las lecturas de una entidad recién escrita se sirven desde el primario. */
+    private long readYourWritesMillis = 5000;
+
+    private long lagCheckIntervalMillis = 1000;
+}
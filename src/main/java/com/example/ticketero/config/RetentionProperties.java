@@ -0,0 +1,42 @@
+package com.example.ticketero.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Políticas de retención por tabla (prefijo {@code retention}).
+ * La clave de {@link #policies} es el nombre de la tabla.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "retention")
+@Getter
+@Setter
+public class RetentionProperties {
+
+    private boolean enabled = true;
+
+    /** Directorio donde se escriben los archivos .csv.gz antes de borrar. */
+    private String archiveDir = "./archive";
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private int retentionDays = 30;
+
+        /** Filas borradas por transacción. */
+        private int batchSize = 1000;
+
+        /** Pausa entre lotes para no saturar WAL ni réplicas. */
+        private long pauseMillis = 50;
+
+        private boolean archive = false;
+    }
+}
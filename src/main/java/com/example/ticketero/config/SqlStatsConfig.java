@@ -0,0 +1,34 @@
+package com.example.ticketero.config;
+
+import com.example.ticketero.metrics.SqlStatsDataSourcePostProcessor;
+import com.example.ticketero.metrics.SqlStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Sentencias SQL por petición ({@code sql-stats.enabled}, activo por defecto).
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    @Bean
+    public static SqlStatsDataSourcePostProcessor sqlStatsDataSourcePostProcessor() {
+        return new SqlStatsDataSourcePostProcessor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(MeterRegistry meterRegistry,
+                                                                 SqlStatsProperties properties) {
+        FilterRegistrationBean<SqlStatsFilter> registration = new FilterRegistrationBean<>(new SqlStatsFilter(
+            meterRegistry, properties.getStatementBudget(), Duration.ofMillis(properties.getTimeBudgetMillis())));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ticketero.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Conteo de sentencias SQL por petición (prefijo {@code sql-stats}).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "sql-stats")
+@Getter
+@Setter
+public class SqlStatsProperties {
+
+    private boolean enabled = true;
+
+    /** Peticiones con más sentencias que esto se registran como advertencia. */
+    private int statementBudget = 20;
+
+    /** Peticiones con más tiempo en base de datos que esto se registran como advertencia. */
+    private long timeBudgetMillis = 500;
+}
@@ -17,6 +17,9 @@ public class TelegramConfig {
     @Value("${telegram.chat-id}")
     private String chatId;
 
+    @Value("${telegram.rate-limit-backoff-seconds:1}")
+    private int rateLimitBackoffSeconds;
+
     @Bean
     public RestTemplate restTemplate() {
         return new RestTemplate();
@@ -34,6 +37,10 @@ public class TelegramConfig {
         return chatId;
     }
 
+    public int getRateLimitBackoffSeconds() {
+        return rateLimitBackoffSeconds;
+    }
+
     public String getFullApiUrl() {
         return apiUrl + botToken;
     }
@@ -0,0 +1,30 @@
+package com.example.ticketero.config;
+
+import com.example.ticketero.channel.stub.TelegramStubServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Levanta el stub local de Telegram dentro de la aplicación para pruebas de carga sin red.
+ */
+@Configuration
+@ConditionalOnProperty(name = "telegram.stub.enabled", havingValue = "true")
+public class TelegramStubConfig {
+
+    @Bean(destroyMethod = "close")
+    public TelegramStubServer telegramStubServer(
+        @Value("${telegram.stub.port:0}") int port,
+        @Value("${telegram.stub.latency-millis:50}") long latencyMillis,
+        @Value("${telegram.stub.error-rate:0.0}") double errorRate,
+        @Value("${telegram.stub.rate-limit-rate:0.0}") double rateLimitRate,
+        @Value("${telegram.stub.retry-after-seconds:1}") int retryAfterSeconds
+    ) throws IOException {
+        TelegramStubServer server = new TelegramStubServer(port, latencyMillis, errorRate, rateLimitRate, retryAfterSeconds);
+        server.start();
+        return server;
+    }
+}
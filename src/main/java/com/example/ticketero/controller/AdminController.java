@@ -1,16 +1,30 @@
 package com.example.ticketero.controller;
 
 import com.example.ticketero.model.dto.response.AdvisorResponse;
-import com.example.ticketero.model.dto.response.DashboardResponse;
+import com.example.ticketero.model.dto.response.AuditPageResponse;
+import com.example.ticketero.model.dto.response.TicketStatsResponse;
+import com.example.ticketero.model.dto.response.WaitTimePercentiles;
 import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.service.AdvisorService;
 import com.example.ticketero.service.AssignmentService;
-import com.example.ticketero.service.DashboardService;
+import com.example.ticketero.service.AuditService;
+import com.example.ticketero.service.DashboardSnapshotService;
+import com.example.ticketero.service.DashboardSnapshotService.DashboardSnapshot;
+import com.example.ticketero.service.DashboardStreamService;
+import com.example.ticketero.service.TicketStatsService;
+import com.example.ticketero.service.WaitTimeAnalytics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -21,13 +35,37 @@ public class AdminController {
 
     private final AdvisorService advisorService;
     private final AssignmentService assignmentService;
-    private final DashboardService dashboardService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final DashboardStreamService dashboardStreamService;
+    private final WaitTimeAnalytics waitTimeAnalytics;
+    private final TicketStatsService ticketStatsService;
+    private final AuditService auditService;
 
+    /**
+     * Devuelve el JSON pre-serializado de la versión vigente.
+     * Si el cliente ya tiene esa versión (If-None-Match), responde 304 sin calcular nada.
+     */
     @GetMapping("/dashboard")
-    public ResponseEntity<DashboardResponse> getDashboard() {
-        log.info("GET /api/admin/dashboard - Retrieving dashboard data");
-        DashboardResponse dashboard = dashboardService.getDashboard();
-        return ResponseEntity.ok(dashboard);
+    public ResponseEntity<byte[]> getDashboard(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        log.debug("GET /api/admin/dashboard - Retrieving dashboard data");
+        String etag = dashboardSnapshotService.currentEtag();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot();
+        return ResponseEntity.ok()
+            .eTag(snapshot.etag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(snapshot.json());
+    }
+
+    @GetMapping(path = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        log.info("GET /api/admin/dashboard/stream - Subscribing to dashboard updates");
+        return dashboardStreamService.subscribe();
     }
 
     @GetMapping("/advisors")
@@ -37,6 +75,41 @@ public class AdminController {
         return ResponseEntity.ok(advisors);
     }
 
+    @GetMapping("/analytics/wait-times")
+    public ResponseEntity<List<WaitTimePercentiles>> getWaitTimePercentiles(
+        @RequestParam(defaultValue = "QUEUE") WaitTimeAnalytics.Dimension dimension
+    ) {
+        log.info("GET /api/admin/analytics/wait-times - Retrieving wait-time percentiles by {}", dimension);
+        return ResponseEntity.ok(waitTimeAnalytics.getPercentiles(dimension));
+    }
+
+    @GetMapping("/reports/ticket-stats")
+    public ResponseEntity<List<TicketStatsResponse>> getTicketStats(
+        @RequestParam(defaultValue = "HOURLY") TicketStatsService.Granularity granularity,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(required = false) QueueType queueType,
+        @RequestParam(required = false) Long advisorId
+    ) {
+        log.info("GET /api/admin/reports/ticket-stats - {} stats from {} to {}", granularity, from, to);
+        return ResponseEntity.ok(ticketStatsService.getStats(granularity, from, to, queueType, advisorId));
+    }
+
+    @GetMapping("/audit")
+    public ResponseEntity<AuditPageResponse> getAuditEvents(
+        @RequestParam(required = false) String entityType,
+        @RequestParam(required = false) Long entityId,
+        @RequestParam(required = false) String eventType,
+        @RequestParam(required = false) String actor,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        log.info("GET /api/admin/audit - Retrieving audit events");
+        return ResponseEntity.ok(auditService.findEvents(entityType, entityId, eventType, actor, from, to, cursor, limit));
+    }
+
     @PutMapping("/advisors/{id}/status")
     public ResponseEntity<Void> updateAdvisorStatus(
         @PathVariable Long id,
@@ -60,4 +133,17 @@ public class AdminController {
         assignmentService.processAllAssignments();
         return ResponseEntity.ok().build();
     }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
\ No newline at end of file
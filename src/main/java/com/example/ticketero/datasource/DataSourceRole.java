@@ -0,0 +1,9 @@
+package com.example.ticketero.datasource;
+
+/**
+ * Destino físico de una conexión.
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
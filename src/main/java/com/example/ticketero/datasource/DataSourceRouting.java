@@ -0,0 +1,33 @@
+package com.example.ticketero.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Fijación del primario para las lecturas del hilo actual.
+ * Solo afecta a conexiones obtenidas mientras la fijación está activa: dentro de una transacción,
+ * la conexión se toma en la primera sentencia y se conserva hasta el final.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private DataSourceRouting() {
+    }
+
+    public static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get();
+    }
+
+    /**
+     * Ejecuta la acción con el primario fijado y restaura el estado anterior al terminar.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_PINNED.set(previous);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.ticketero.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Mide periódicamente el retraso de replicación de la réplica de lectura.
+ * La réplica se considera utilizable solo si la última medición es válida y no supera el máximo;
+ * mientras no haya medición (arranque o réplica caída), las lecturas van al primario.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * Retraso en milisegundos. Si todo lo recibido ya se aplicó, la réplica está al día aunque el primario
+     * lleve tiempo sin escribir; en una base que no es réplica el retraso es cero.
+     */
+    static final String LAG_QUERY = """
+        SELECT CASE
+                 WHEN NOT pg_is_in_recovery() THEN 0
+                 WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                 ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+               END::double precision
+        """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(1);
+        this.maxLagMillis = maxLagMillis;
+        Gauge.builder("ticketero.datasource.replica.lag", this, ReplicaLagMonitor::getLagMillis)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder("ticketero.datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-millis:1000}")
+    public void probe() {
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            recordLag(lag == null ? 0 : lag.longValue());
+        } catch (DataAccessException e) {
+            if (usable) {
+                log.warn("Replica lag probe failed, routing reads to primary: {}", e.getMessage());
+            }
+            lagMillis = -1;
+            usable = false;
+        }
+    }
+
+    void recordLag(long lagMillis) {
+        boolean nowUsable = lagMillis <= maxLagMillis;
+        if (usable && !nowUsable) {
+            log.warn("Replica lag {} ms exceeds {} ms, routing reads to primary", lagMillis, maxLagMillis);
+        } else if (!usable && nowUsable) {
+            log.info("Replica available (lag {} ms), routing read-only transactions to replica", lagMillis);
+        }
+        this.lagMillis = lagMillis;
+        this.usable = nowUsable;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /** Último retraso medido, o -1 si la réplica no respondió. */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ticketero.datasource;
+
+import com.example.ticketero.config.ReplicaDataSourceProperties;
+import com.example.ticketero.util.TransactionHooks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Lecturas puntuales tolerantes al retraso de la réplica.
+ * <ul>
+ *   <li>Las claves escritas por esta instancia se leen desde el primario durante
+ *       {@code datasource.replica.read-your-writes-millis} tras el commit.</li>
+ *   <li>Si la réplica no encuentra la fila (creada hace instantes, posiblemente por otra instancia),
+ *       la lectura se repite en el primario en una transacción nueva.</li>
+ * </ul>
+ * Sin réplica configurada, las consultas se ejecutan tal cual.
+ */
+@Component
+public class ReplicaReads {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long windowNanos;
+    private final TransactionTemplate primaryReadTemplate;
+    private final Map<Object, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public ReplicaReads(ObjectProvider<ReplicaLagMonitor> lagMonitor, PlatformTransactionManager transactionManager,
+                        ReplicaDataSourceProperties properties) {
+        this.lagMonitor = lagMonitor.getIfAvailable();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getReadYourWritesMillis());
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryReadTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Registra claves modificadas por la transacción actual; la ventana empieza con el commit.
+     */
+    public void recordWrite(Object... keys) {
+        if (lagMonitor == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            long until = System.nanoTime() + windowNanos;
+            for (Object key : keys) {
+                if (key != null) {
+                    recentWrites.put(key, until);
+                }
+            }
+        });
+    }
+
+    /**
+     * Ejecuta una búsqueda por clave dentro de la transacción de solo lectura actual.
+     * Debe ser la primera sentencia de la transacción para que la elección de destino tenga efecto.
+     */
+    public <T> Optional<T> find(Object key, Supplier<Optional<T>> query) {
+        if (lagMonitor == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query.get();
+        }
+        if (isRecentlyWritten(key)) {
+            return DataSourceRouting.onPrimary(query);
+        }
+        Optional<T> result = query.get();
+        if (result.isPresent() || DataSourceRouting.isPrimaryPinned() || !lagMonitor.isReplicaUsable()) {
+            return result;
+        }
+        return primaryReadTemplate.execute(status -> DataSourceRouting.onPrimary(query));
+    }
+
+    boolean isRecentlyWritten(Object key) {
+        Long until = recentWrites.get(key);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.read-your-writes-millis:5000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        recentWrites.values().removeIf(until -> until - now <= 0);
+    }
+}
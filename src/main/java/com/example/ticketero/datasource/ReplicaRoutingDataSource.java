@@ -0,0 +1,40 @@
+package com.example.ticketero.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Destino de las conexiones de solo lectura: la réplica, salvo que el hilo haya fijado el primario
+ * o que la réplica esté atrasada o caída.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.replicaReads = meterRegistry.counter("ticketero.datasource.reads", "target", "replica");
+        this.primaryReads = meterRegistry.counter("ticketero.datasource.reads", "target", "primary");
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!DataSourceRouting.isPrimaryPinned() && lagMonitor.isReplicaUsable()) {
+            replicaReads.increment();
+            return DataSourceRole.REPLICA;
+        }
+        primaryReads.increment();
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.util.List;
 
@@ -36,6 +37,20 @@ public class GlobalExceptionHandler {
             .body(new ErrorResponse(ex.getMessage(), 400));
     }
 
+    @ExceptionHandler({InvalidTicketTransitionException.class, TicketConflictException.class})
+    public ResponseEntity<ErrorResponse> handleConflict(RuntimeException ex) {
+        log.warn("Conflict: {}", ex.getMessage());
+        return ResponseEntity
+            .status(409)
+            .body(new ErrorResponse(ex.getMessage(), 409));
+    }
+
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public void handleAsyncTimeout(AsyncRequestTimeoutException ex) {
+        // Fin normal de una conexión SSE: no hay cuerpo JSON que escribir sobre text/event-stream
+        log.debug("Async request timed out");
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneral(Exception ex) {
         log.error("Unexpected error", ex);
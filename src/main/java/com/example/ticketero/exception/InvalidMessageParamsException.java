@@ -0,0 +1,15 @@
+package com.example.ticketero.exception;
+
+import com.example.ticketero.model.enums.MessageType;
+
+/**
+ * Excepción lanzada cuando los parámetros guardados de un mensaje no alcanzan para su plantilla
+ * y tampoco pueden reconstruirse desde el ticket (por ejemplo, TURN_ACTIVE sin asesor).
+ * Reintentar no la corrige: el mensaje debe marcarse como fallido.
+ */
+public class InvalidMessageParamsException extends RuntimeException {
+
+    public InvalidMessageParamsException(String ticketNumber, MessageType template, String params) {
+        super(String.format("Mensaje %s del ticket %s sin parámetros válidos: %s", template, ticketNumber, params));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ticketero.exception;
+
+import com.example.ticketero.model.enums.TicketStatus;
+
+/**
+ * Excepción lanzada cuando se pide una transición de estado que el ticket no admite
+ * (por ejemplo, completar un ticket que sigue en espera).
+ */
+public class InvalidTicketTransitionException extends RuntimeException {
+
+    public InvalidTicketTransitionException(String ticketNumber, TicketStatus from, TicketStatus to) {
+        super(String.format("Ticket %s no puede pasar de %s a %s", ticketNumber, from, to));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ticketero.exception;
+
+import com.example.ticketero.model.enums.TicketStatus;
+
+/**
+ * Excepción lanzada cuando otra transición cambió el estado del ticket entre la lectura
+ * y la escritura: la actualización condicional no encontró la fila en el estado esperado.
+ */
+public class TicketConflictException extends RuntimeException {
+
+    public TicketConflictException(String ticketNumber, TicketStatus expected, TicketStatus to) {
+        super(String.format("Ticket %s ya no está en %s; no se aplicó el cambio a %s", ticketNumber, expected, to));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.ticketero.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Grabación JFR bajo demanda en {@code /actuator/jfr}:
+ * <ul>
+ *   <li>{@code POST} inicia una grabación (configuración {@code profile} por defecto: muestreo de
+ *       asignaciones y contención de locks) con duración máxima opcional</li>
+ *   <li>{@code GET} informa el estado</li>
+ *   <li>{@code DELETE} la detiene y vuelca el archivo</li>
+ *   <li>{@code GET /{file}} descarga el {@code .jfr}; si la grabación sigue activa, vuelca primero lo grabado hasta ahora</li>
+ * </ul>
+ * Los eventos de negocio ({@code ticketero.*}) quedan en la misma grabación que los del JDK, así una
+ * pausa o una ráfaga de asignaciones se ubica junto al ticket o envío que la provocó.
+ * Solo se mantiene una grabación (la detenida sigue visible en el estado hasta el próximo POST) y su volcado. Deshabilitado por defecto
+ * ({@code management.endpoint.jfr.enabled}).
+ */
+@Component
+@Endpoint(id = "jfr", enableByDefault = false)
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "ticketero";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private Recording recording;
+    private String settings;
+    /** Archivo de la grabación actual o de la última; cada volcado lo sobrescribe. */
+    private Path dump;
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("settings", settings);
+            status.put("startTime", recording.getStartTime());
+            status.put("stopTime", recording.getStopTime());
+            status.put("size", recording.getSize());
+        }
+        status.put("file", dump != null ? dump.getFileName().toString() : null);
+        return status;
+    }
+
+    /**
+     * @param settings configuración JFR incluida en el JDK ({@code default} o {@code profile})
+     * @param durationSeconds detiene la grabación sola tras este tiempo; sin valor, sigue hasta el DELETE
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings, @Nullable Long durationSeconds) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("A JFR recording is already running", "Recording already running");
+        }
+        closeRecording();
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : "profile");
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + settings, "Unknown settings");
+        }
+        deleteDump();
+        recording = new Recording(configuration);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        this.settings = configuration.getName();
+        this.dump = Path.of(System.getProperty("java.io.tmpdir"),
+            RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+        if (durationSeconds != null) {
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+        }
+        recording.start();
+        log.info("JFR recording started with '{}' settings", this.settings);
+        return status();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording == null) {
+            return status();
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        dumpRecording();
+        log.info("JFR recording stopped, dumped to {}", dump);
+        return status();
+    }
+
+    /**
+     * Descarga el volcado por el nombre que informa {@link #status()}; {@code null} responde 404.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download(@Selector String file) {
+        if (dump == null || !dump.getFileName().toString().equals(file)) {
+            return null;
+        }
+        if (recording != null) {
+            dumpRecording();
+        }
+        return Files.exists(dump) ? new FileSystemResource(dump) : null;
+    }
+
+    private void dumpRecording() {
+        try {
+            recording.dump(dump);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump JFR recording", e);
+        }
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteDump() {
+        if (dump != null) {
+            try {
+                Files.deleteIfExists(dump);
+            } catch (IOException e) {
+                log.warn("Could not delete previous JFR dump {}: {}", dump, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.ticketero.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Pasada periódica sobre una cola: posiciones de tickets en espera o mensajes pendientes.
+ */
+@Name("ticketero.QueueRefresh")
+@Label("Queue Refresh")
+@Category({"Ticketero", "Scheduler"})
+@Description("Pasada de un scheduler con la cantidad de filas procesadas")
+@StackTrace(false)
+public class QueueRefreshEvent extends jdk.jfr.Event {
+
+    public static final String TICKET_POSITIONS = "ticket-positions";
+    public static final String PENDING_MESSAGES = "pending-messages";
+
+    @Label("Source")
+    String source;
+
+    @Label("Row Count")
+    int rowCount;
+
+    public void emit(String source, int rowCount) {
+        if (shouldCommit()) {
+            this.source = source;
+            this.rowCount = rowCount;
+            commit();
+        }
+    }
+}
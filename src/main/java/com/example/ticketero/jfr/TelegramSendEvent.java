@@ -0,0 +1,36 @@
+package com.example.ticketero.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Llamada al canal de notificación; la duración es la latencia del envío.
+ */
+@Name("ticketero.TelegramSend")
+@Label("Telegram Send")
+@Category({"Ticketero", "Notification"})
+@Description("Envío de un mensaje por el canal de notificación")
+@StackTrace(false)
+public class TelegramSendEvent extends jdk.jfr.Event {
+
+    @Label("Message Type")
+    String messageType;
+
+    @Label("Ticket Number")
+    String ticketNumber;
+
+    @Label("Success")
+    boolean success;
+
+    public void emit(String messageType, String ticketNumber, boolean success) {
+        if (shouldCommit()) {
+            this.messageType = messageType;
+            this.ticketNumber = ticketNumber;
+            this.success = success;
+            commit();
+        }
+    }
+}
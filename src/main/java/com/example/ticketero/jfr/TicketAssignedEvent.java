@@ -0,0 +1,42 @@
+package com.example.ticketero.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Asignación de un ticket a un asesor, incluida la notificación de turno activo.
+ */
+@Name("ticketero.TicketAssigned")
+@Label("Ticket Assigned")
+@Category({"Ticketero", "Ticket"})
+@Description("Ticket asignado a un asesor, con el tiempo que esperó en cola")
+@StackTrace(false)
+public class TicketAssignedEvent extends jdk.jfr.Event {
+
+    @Label("Ticket Number")
+    String ticketNumber;
+
+    @Label("Queue Type")
+    String queueType;
+
+    @Label("Advisor Id")
+    long advisorId;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.MILLISECONDS)
+    long queueWait;
+
+    public void emit(String ticketNumber, String queueType, long advisorId, long queueWaitMillis) {
+        if (shouldCommit()) {
+            this.ticketNumber = ticketNumber;
+            this.queueType = queueType;
+            this.advisorId = advisorId;
+            this.queueWait = queueWaitMillis;
+            commit();
+        }
+    }
+}
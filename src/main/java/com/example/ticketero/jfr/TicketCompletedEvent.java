@@ -0,0 +1,36 @@
+package com.example.ticketero.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Cierre de la atención; la duración incluye la asignación automática del siguiente ticket.
+ */
+@Name("ticketero.TicketCompleted")
+@Label("Ticket Completed")
+@Category({"Ticketero", "Ticket"})
+@Description("Atención completada y asesor liberado")
+@StackTrace(false)
+public class TicketCompletedEvent extends jdk.jfr.Event {
+
+    @Label("Ticket Number")
+    String ticketNumber;
+
+    @Label("Queue Type")
+    String queueType;
+
+    @Label("Advisor Id")
+    long advisorId;
+
+    public void emit(String ticketNumber, String queueType, Long advisorId) {
+        if (shouldCommit()) {
+            this.ticketNumber = ticketNumber;
+            this.queueType = queueType;
+            this.advisorId = advisorId != null ? advisorId : -1;
+            commit();
+        }
+    }
+}
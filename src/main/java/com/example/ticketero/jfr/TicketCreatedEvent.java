@@ -0,0 +1,39 @@
+package com.example.ticketero.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emisión de un ticket; la duración cubre número, persistencia, posición y confirmación.
+ */
+@Name("ticketero.TicketCreated")
+@Label("Ticket Created")
+@Category({"Ticketero", "Ticket"})
+@Description("Ticket emitido, con su cola y posición inicial")
+@StackTrace(false)
+public class TicketCreatedEvent extends jdk.jfr.Event {
+
+    @Label("Ticket Number")
+    String ticketNumber;
+
+    @Label("Queue Type")
+    String queueType;
+
+    @Label("Queue Position")
+    int queuePosition;
+
+    /**
+     * Confirma el evento si la grabación lo pide; los campos solo se llenan en ese caso.
+     */
+    public void emit(String ticketNumber, String queueType, Integer queuePosition) {
+        if (shouldCommit()) {
+            this.ticketNumber = ticketNumber;
+            this.queueType = queueType;
+            this.queuePosition = queuePosition != null ? queuePosition : -1;
+            commit();
+        }
+    }
+}
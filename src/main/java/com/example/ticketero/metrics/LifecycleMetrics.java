@@ -0,0 +1,23 @@
+package com.example.ticketero.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Temporizadores del ciclo de vida del ticket.
+ *
+ * <p>Cada operación publica un Timer etiquetado con su dimensión de negocio y el resultado.
+ * Los buckets SLO se configuran por nombre en {@code management.metrics.distribution.slo};
+ * no se calculan percentiles en el cliente, así el costo por llamada es un par de lecturas de reloj.
+ */
+@Component
+@RequiredArgsConstructor
+public class LifecycleMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public LifecycleTiming start(LifecycleOperation operation) {
+        return new LifecycleTiming(meterRegistry, operation);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ticketero.metrics;
+
+/**
+ * Operaciones temporizadas del ciclo de vida. Cada una fija su nombre de métrica y la clave
+ * de su dimensión: Prometheus exige el mismo conjunto de etiquetas para todas las series de un nombre.
+ */
+public enum LifecycleOperation {
+    TICKET_CREATE("ticketero.ticket.create", "queue_type"),
+    TICKET_POSITION("ticketero.ticket.position", "queue_type"),
+    TICKET_COMPLETE("ticketero.ticket.complete", "queue_type"),
+    ASSIGNMENT_NEXT("ticketero.assignment.next", "queue_type"),
+    ASSIGNMENT_BATCH("ticketero.assignment.batch", null),
+    DASHBOARD_BUILD("ticketero.dashboard.build", null),
+    NOTIFICATION_SEND("ticketero.notification.send", "message_type");
+
+    private final String metricName;
+    private final String dimension;
+
+    LifecycleOperation(String metricName, String dimension) {
+        this.metricName = metricName;
+        this.dimension = dimension;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    /** Clave de la dimensión de negocio, o null si la operación solo se etiqueta por resultado. */
+    public String getDimension() {
+        return dimension;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ticketero.metrics;
+
+import com.example.ticketero.exception.DuplicateActiveTicketException;
+import com.example.ticketero.exception.InvalidTicketTransitionException;
+import com.example.ticketero.exception.TicketConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Medición en curso de una operación; se cierra una sola vez con su resultado.
+ */
+public class LifecycleTiming {
+
+    public static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final LifecycleOperation operation;
+    private final Timer.Sample sample;
+    private String dimensionValue = UNKNOWN;
+
+    LifecycleTiming(MeterRegistry meterRegistry, LifecycleOperation operation) {
+        this.meterRegistry = meterRegistry;
+        this.operation = operation;
+        this.sample = Timer.start(meterRegistry);
+    }
+
+    /**
+     * Valor de la dimensión (cola o tipo de mensaje); puede fijarse cuando se conoce, a mitad de la operación.
+     */
+    public LifecycleTiming dimension(Enum<?> value) {
+        if (value != null) {
+            this.dimensionValue = value.name();
+        }
+        return this;
+    }
+
+    public void success() {
+        stop("success");
+    }
+
+    public void failure(RuntimeException e) {
+        stop(outcomeOf(e));
+    }
+
+    /**
+     * Cierra con un resultado propio de la operación (not_found, skipped, idle...).
+     */
+    public void stop(String outcome) {
+        Tags tags = Tags.of("outcome", outcome);
+        if (operation.getDimension() != null) {
+            tags = tags.and(operation.getDimension(), dimensionValue);
+        }
+        sample.stop(meterRegistry.timer(operation.getMetricName(), tags));
+    }
+
+    /**
+     * Las reglas de negocio no cuentan como error.
+     */
+    private static String outcomeOf(RuntimeException e) {
+        if (e instanceof TicketConflictException) {
+            return "conflict";
+        }
+        if (e instanceof InvalidTicketTransitionException || e instanceof DuplicateActiveTicketException) {
+            return "rejected";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.ticketero.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sentencias SQL y tiempo en base de datos de una unidad de trabajo (una petición HTTP, una llamada
+ * bajo prueba). El alcance es del hilo: lo abre quien quiere medir y lo alimenta el proxy del
+ * DataSource ({@link SqlStatsDataSourcePostProcessor}). Fuera de un alcance, registrar no hace nada.
+ * Los alcances se pueden anidar; cada uno cuenta solo lo ejecutado mientras está abierto.
+ */
+public final class SqlStats implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStats previous;
+    private final List<String> statements;
+    private int count;
+    private long nanos;
+
+    private SqlStats(SqlStats previous, boolean captureSql) {
+        this.previous = previous;
+        this.statements = captureSql ? new ArrayList<>() : null;
+    }
+
+    /**
+     * @param captureSql guardar el texto de cada sentencia (para diagnóstico en pruebas; no en producción)
+     */
+    public static SqlStats begin(boolean captureSql) {
+        SqlStats stats = new SqlStats(CURRENT.get(), captureSql);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void record(long elapsedNanos, List<String> sql) {
+        for (SqlStats stats = CURRENT.get(); stats != null; stats = stats.previous) {
+            stats.count++;
+            stats.nanos += elapsedNanos;
+            if (stats.statements != null) {
+                stats.statements.add(String.join("; ", sql));
+            }
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Duration getTime() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /** Texto de las sentencias ejecutadas, o lista vacía si el alcance no las captura. */
+    public List<String> getStatements() {
+        return statements != null ? List.copyOf(statements) : List.of();
+    }
+
+    @Override
+    public void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
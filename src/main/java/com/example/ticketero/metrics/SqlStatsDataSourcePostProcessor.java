@@ -0,0 +1,49 @@
+package com.example.ticketero.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Envuelve el DataSource de la aplicación (bean {@code dataSource}) con un proxy que reporta cada
+ * ejecución a {@link SqlStats}. Un batch JDBC cuenta como una sentencia: es un solo viaje a la base.
+ * Con réplica habilitada se envuelve el proxy de enrutamiento, así que se cuentan ambos destinos.
+ */
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                .name(DATA_SOURCE_BEAN)
+                .listener(new Listener())
+                .build();
+        }
+        return bean;
+    }
+
+    private static final class Listener implements QueryExecutionListener {
+
+        private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            startedAt.set(System.nanoTime());
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Long start = startedAt.get();
+            startedAt.remove();
+            long elapsed = start != null ? System.nanoTime() - start : 0;
+            SqlStats.record(elapsed, queryInfoList.stream().map(QueryInfo::getQuery).toList());
+        }
+    }
+}
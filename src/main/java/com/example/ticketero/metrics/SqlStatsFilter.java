@@ -0,0 +1,71 @@
+package com.example.ticketero.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Mide las sentencias SQL de cada petición y las publica por endpoint
+ * ({@code ticketero.http.sql.statements} y {@code ticketero.http.sql.time}, etiquetados por método y
+ * patrón de URI). Las peticiones que superan el presupuesto se registran en el log: un N+1 aparece como
+ * un endpoint cuyo conteo crece con los datos.
+ */
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 25, 50, 100};
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final Duration timeBudget;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry, int statementBudget, Duration timeBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (SqlStats stats = SqlStats.begin(false)) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                report(request, stats);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("ticketero.http.sql.statements")
+            .tags("method", method, "uri", uri)
+            .serviceLevelObjectives(STATEMENT_BUCKETS)
+            .register(meterRegistry)
+            .record(stats.getCount());
+        Timer.builder("ticketero.http.sql.time")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(stats.getTime());
+
+        if (stats.getCount() > statementBudget || stats.getTime().compareTo(timeBudget) > 0) {
+            log.warn("SQL budget exceeded: {} {} ran {} statements in {} ms (budget {} statements / {} ms)",
+                method, request.getRequestURI(), stats.getCount(), stats.getTime().toMillis(),
+                statementBudget, timeBudget.toMillis());
+        }
+    }
+}
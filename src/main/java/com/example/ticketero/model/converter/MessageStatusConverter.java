@@ -0,0 +1,22 @@
+package com.example.ticketero.model.converter;
+
+import com.example.ticketero.model.enums.MessageStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Persiste {@link MessageStatus} como su código SMALLINT.
+ */
+@Converter
+public class MessageStatusConverter implements AttributeConverter<MessageStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(MessageStatus attribute) {
+        return attribute != null ? attribute.getCode() : null;
+    }
+
+    @Override
+    public MessageStatus convertToEntityAttribute(Short dbData) {
+        return dbData != null ? MessageStatus.fromCode(dbData) : null;
+    }
+}
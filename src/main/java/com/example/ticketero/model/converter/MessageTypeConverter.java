@@ -0,0 +1,22 @@
+package com.example.ticketero.model.converter;
+
+import com.example.ticketero.model.enums.MessageType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Persiste {@link MessageType} como su código SMALLINT.
+ */
+@Converter
+public class MessageTypeConverter implements AttributeConverter<MessageType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(MessageType attribute) {
+        return attribute != null ? attribute.getCode() : null;
+    }
+
+    @Override
+    public MessageType convertToEntityAttribute(Short dbData) {
+        return dbData != null ? MessageType.fromCode(dbData) : null;
+    }
+}
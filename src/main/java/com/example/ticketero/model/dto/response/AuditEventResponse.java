@@ -0,0 +1,15 @@
+package com.example.ticketero.model.dto.response;
+
+import java.time.LocalDateTime;
+
+public record AuditEventResponse(
+    Long id,
+    String eventType,
+    String entityType,
+    Long entityId,
+    String actor,
+    String oldValue,
+    String newValue,
+    String description,
+    LocalDateTime createdAt
+) {}
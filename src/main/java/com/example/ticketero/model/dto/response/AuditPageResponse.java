@@ -0,0 +1,11 @@
+package com.example.ticketero.model.dto.response;
+
+import java.util.List;
+
+/**
+ * Página de auditoría; {@code nextCursor} es null en la última página.
+ */
+public record AuditPageResponse(
+    List<AuditEventResponse> items,
+    String nextCursor
+) {}
@@ -0,0 +1,16 @@
+package com.example.ticketero.model.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record TicketStatsResponse(
+    LocalDateTime bucketStart,
+    String queueType,
+    long created,
+    long assigned,
+    long completed,
+    Double averageWaitSeconds,
+    Double averageServiceSeconds,
+    Map<String, Long> waitHistogram,
+    Map<String, Long> serviceHistogram
+) {}
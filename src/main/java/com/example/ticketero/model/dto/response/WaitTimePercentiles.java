@@ -0,0 +1,12 @@
+package com.example.ticketero.model.dto.response;
+
+public record WaitTimePercentiles(
+    String dimension,
+    String key,
+    String metric,
+    long count,
+    long p50Seconds,
+    long p90Seconds,
+    long p99Seconds,
+    long maxSeconds
+) {}
@@ -1,9 +1,12 @@
 package com.example.ticketero.model.entity;
 
+import com.example.ticketero.cache.CacheNames;
 import com.example.ticketero.model.enums.AdvisorStatus;
 import com.example.ticketero.model.enums.QueueType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "advisors")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.ADVISORS)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +23,8 @@ import java.util.List;
 public class Advisor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "advisors_id_seq")
+    @SequenceGenerator(name = "advisors_id_seq", sequenceName = "advisors_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -42,6 +47,15 @@ public class Advisor {
     @Builder.Default
     private List<Ticket> tickets = new ArrayList<>();
 
+    /**
+     * Ticket en atención (PROXIMO o ATENDIENDO), mantenido por {@code AssignmentService}.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "current_ticket_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Ticket currentTicket;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -1,11 +1,18 @@
 package com.example.ticketero.model.entity;
 
+import com.example.ticketero.model.converter.MessageStatusConverter;
+import com.example.ticketero.model.converter.MessageTypeConverter;
+import com.example.ticketero.model.enums.MessageStatus;
 import com.example.ticketero.model.enums.MessageType;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * Notificación de Telegram asociada a un ticket.
+ * Guarda la plantilla y sus parámetros variables; el texto se renderiza al enviar.
+ */
 @Entity
 @Table(name = "messages")
 @Getter
@@ -16,7 +23,8 @@ import java.time.LocalDateTime;
 public class Message {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "messages_id_seq")
+    @SequenceGenerator(name = "messages_id_seq", sequenceName = "messages_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,21 +32,25 @@ public class Message {
     @ToString.Exclude
     private Ticket ticket;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "message_type", nullable = false, length = 20)
+    @Convert(converter = MessageTypeConverter.class)
+    @Column(name = "template", nullable = false)
     private MessageType messageType;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    @Column(length = 120)
+    private String params;
 
-    @Column(name = "sent_at")
-    private LocalDateTime sentAt;
+    @Convert(converter = MessageStatusConverter.class)
+    @Column(nullable = false)
+    private MessageStatus status;
+
+    @Column(nullable = false)
+    private Short attempts;
 
-    @Column(name = "delivery_status", nullable = false, length = 20)
-    private String deliveryStatus;
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
 
-    @Column(name = "retry_count", nullable = false)
-    private Integer retryCount;
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -46,7 +58,14 @@ public class Message {
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
-        this.deliveryStatus = "PENDING";
-        this.retryCount = 0;
+        if (this.status == null) {
+            this.status = MessageStatus.PENDIENTE;
+        }
+        if (this.attempts == null) {
+            this.attempts = 0;
+        }
+        if (this.scheduledAt == null) {
+            this.scheduledAt = this.createdAt;
+        }
     }
-}
\ No newline at end of file
+}
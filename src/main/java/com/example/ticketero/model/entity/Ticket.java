@@ -6,12 +6,16 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_tickets_ticket_number", columnNames = {"ticket_number", "created_at"}),
+    @UniqueConstraint(name = "uq_tickets_uuid", columnNames = {"uuid", "created_at"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,13 +24,15 @@ import java.util.UUID;
 public class Ticket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tickets_id_seq")
+    @SequenceGenerator(name = "tickets_id_seq", sequenceName = "tickets_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    // UNIQUE junto con created_at: la tabla está particionada por created_at (V13, V16)
+    @Column(nullable = false)
     private UUID uuid;
 
-    @Column(name = "ticket_number", unique = true, nullable = false, length = 20)
+    @Column(name = "ticket_number", nullable = false, length = 20)
     private String ticketNumber;
 
     @Column(name = "customer_rut", nullable = false, length = 12)
@@ -39,8 +45,10 @@ public class Ticket {
     @Column(name = "queue_type", nullable = false, length = 20)
     private QueueType queueType;
 
+    // Estado, asesor y marcas de tiempo solo cambian vía TicketStateMachine con UPDATE condicional;
+    // el flush de la entidad no los escribe para no pisar una transición concurrente
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, length = 20, updatable = false)
     private TicketStatus status;
 
     @Column(name = "queue_position")
@@ -50,17 +58,17 @@ public class Ticket {
     private Integer estimatedWaitMinutes;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "advisor_id")
+    @JoinColumn(name = "advisor_id", updatable = false)
     @ToString.Exclude
     private Advisor advisor;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "assigned_at")
+    @Column(name = "assigned_at", updatable = false)
     private LocalDateTime assignedAt;
 
-    @Column(name = "completed_at")
+    @Column(name = "completed_at", updatable = false)
     private LocalDateTime completedAt;
 
     @OneToMany(mappedBy = "ticket", cascade = CascadeType.ALL)
@@ -71,7 +79,8 @@ public class Ticket {
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        // Misma precisión que la columna: las comparaciones por created_at usan el valor en memoria
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         this.uuid = UUID.randomUUID();
         this.status = TicketStatus.EN_ESPERA;
     }
@@ -0,0 +1,32 @@
+package com.example.ticketero.model.entity;
+
+import com.example.ticketero.model.enums.QueueType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Correlativo diario de números de ticket por cola (RN-005). Una fila por cola;
+ * {@code lastValue} vuelve a 1 cuando cambia {@code sequenceDay}.
+ */
+@Entity
+@Table(name = "ticket_number_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketNumberSequence {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "queue_type", length = 20)
+    private QueueType queueType;
+
+    @Column(name = "sequence_day", nullable = false)
+    private LocalDate sequenceDay;
+
+    @Column(name = "last_value", nullable = false)
+    private int lastValue;
+}
@@ -2,19 +2,35 @@ package com.example.ticketero.model.enums;
 
 /**
  * Estados de envío de mensajes.
+ * Se persisten como código compacto (SMALLINT) en la tabla messages.
  */
 public enum MessageStatus {
-    PENDIENTE("Pendiente de envío"),
-    ENVIADO("Enviado exitosamente"),
-    FALLIDO("Falló después de reintentos");
+    PENDIENTE((short) 0, "Pendiente de envío"),
+    ENVIADO((short) 1, "Enviado exitosamente"),
+    FALLIDO((short) 2, "Falló después de reintentos");
 
+    private final short code;
     private final String description;
 
-    MessageStatus(String description) {
+    MessageStatus(short code, String description) {
+        this.code = code;
         this.description = description;
     }
 
+    public short getCode() {
+        return code;
+    }
+
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    public static MessageStatus fromCode(short code) {
+        for (MessageStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown message status code: " + code);
+    }
+}
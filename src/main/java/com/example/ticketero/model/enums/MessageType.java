@@ -1,10 +1,30 @@
 package com.example.ticketero.model.enums;
 
 /**
- * Tipos de mensaje para Telegram
+ * Tipos de mensaje para Telegram.
+ * Cada tipo actúa como identificador de plantilla y se persiste con un código compacto.
  */
 public enum MessageType {
-    CONFIRMATION,
-    PRE_NOTICE,
-    TURN_ACTIVE
-}
\ No newline at end of file
+    CONFIRMATION((short) 1),
+    PRE_NOTICE((short) 2),
+    TURN_ACTIVE((short) 3);
+
+    private final short code;
+
+    MessageType(short code) {
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static MessageType fromCode(short code) {
+        for (MessageType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown message type code: " + code);
+    }
+}
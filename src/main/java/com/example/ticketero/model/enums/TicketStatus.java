@@ -3,6 +3,7 @@ package com.example.ticketero.model.enums;
 /**
  * Estados posibles de un ticket en el sistema.
  * Los estados activos son: EN_ESPERA, PROXIMO, ATENDIENDO
+ * Los estados inactivos son terminales: no admiten transiciones.
  */
 public enum TicketStatus {
     EN_ESPERA("Esperando asignación", true),
@@ -27,4 +28,13 @@ public enum TicketStatus {
     public boolean isActive() {
         return isActive;
     }
+
+    public boolean canTransitionTo(TicketStatus target) {
+        return switch (this) {
+            case EN_ESPERA -> target == PROXIMO || target == ATENDIENDO || target == CANCELADO || target == NO_ATENDIDO;
+            case PROXIMO -> target == ATENDIENDO || target == CANCELADO || target == NO_ATENDIDO;
+            case ATENDIENDO -> target == COMPLETADO;
+            case COMPLETADO, CANCELADO, NO_ATENDIDO -> false;
+        };
+    }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.example.ticketero.repository;
 
+import com.example.ticketero.cache.CacheNames;
 import com.example.ticketero.model.entity.Advisor;
 import com.example.ticketero.model.enums.AdvisorStatus;
 import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.repository.projection.AdvisorStatusCount;
+import com.example.ticketero.repository.projection.AdvisorView;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,7 +23,27 @@ public interface AdvisorRepository extends JpaRepository<Advisor, Long> {
 
     Optional<Advisor> findFirstByStatusAndQueueTypeOrderByUpdatedAtAsc(AdvisorStatus status, QueueType queueType);
 
+    /**
+     * Cacheado: se consulta en cada cálculo de posición y cambia solo con el estado de un asesor
+     * (ver {@code AdvisorCacheInvalidator}).
+     */
+    @Cacheable(CacheNames.ADVISOR_COUNTS)
     long countByStatusAndQueueType(AdvisorStatus status, QueueType queueType);
 
     List<Advisor> findByQueueType(QueueType queueType);
+
+    @Query("""
+        SELECT new com.example.ticketero.repository.projection.AdvisorView(
+            a.id, a.name, a.moduleNumber, a.queueType, a.status, t.id, t.ticketNumber)
+        FROM Advisor a LEFT JOIN a.currentTicket t
+        ORDER BY a.id
+        """)
+    List<AdvisorView> findAllViews();
+
+    @Query("""
+        SELECT a.queueType AS queueType, a.status AS status, COUNT(a) AS total
+        FROM Advisor a
+        GROUP BY a.queueType, a.status
+        """)
+    List<AdvisorStatusCount> countGroupedByQueueTypeAndStatus();
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.ticketero.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros y posición para la paginación keyset de auditoría.
+ * Todos los filtros son opcionales; {@code afterCreatedAt}/{@code afterId} es la última fila
+ * de la página anterior (orden descendente por fecha e id).
+ */
+public record AuditEventQuery(
+    String entityType,
+    Long entityId,
+    String eventType,
+    String actor,
+    LocalDateTime from,
+    LocalDateTime to,
+    LocalDateTime afterCreatedAt,
+    Long afterId,
+    int limit
+) {}
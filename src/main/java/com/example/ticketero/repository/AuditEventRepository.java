@@ -1,24 +1,9 @@
 package com.example.ticketero.repository;
 
 import com.example.ticketero.model.entity.AuditEvent;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
 @Repository
-public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
-
-    List<AuditEvent> findByEntityTypeAndEntityIdOrderByCreatedAtDesc(String entityType, Long entityId);
-
-    Page<AuditEvent> findByCreatedAtBetweenOrderByCreatedAtDesc(
-        LocalDateTime startDate, 
-        LocalDateTime endDate, 
-        Pageable pageable
-    );
-
-    List<AuditEvent> findByEventTypeOrderByCreatedAtDesc(String eventType);
-}
\ No newline at end of file
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long>, AuditEventRepositoryCustom {
+}
@@ -0,0 +1,15 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.dto.response.AuditEventResponse;
+
+import java.util.List;
+
+public interface AuditEventRepositoryCustom {
+
+    /**
+     * Página de eventos en orden (created_at DESC, id DESC) a partir de la posición indicada.
+     * El costo no depende de la profundidad de la página. Se proyecta directo a la respuesta,
+     * sin pasar por el contexto de persistencia.
+     */
+    List<AuditEventResponse> findPage(AuditEventQuery query);
+}
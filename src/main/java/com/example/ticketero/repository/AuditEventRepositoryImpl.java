@@ -0,0 +1,63 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.dto.response.AuditEventResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class AuditEventRepositoryImpl implements AuditEventRepositoryCustom {
+
+    private static final String SELECT_RESPONSE = """
+        SELECT new com.example.ticketero.model.dto.response.AuditEventResponse(
+            e.id, e.eventType, e.entityType, e.entityId, e.actor, e.oldValue, e.newValue, e.description, e.createdAt)
+        FROM AuditEvent e WHERE 1 = 1""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AuditEventResponse> findPage(AuditEventQuery query) {
+        StringBuilder jpql = new StringBuilder(SELECT_RESPONSE);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (query.entityType() != null) {
+            jpql.append(" AND e.entityType = :entityType");
+            params.put("entityType", query.entityType());
+        }
+        if (query.entityId() != null) {
+            jpql.append(" AND e.entityId = :entityId");
+            params.put("entityId", query.entityId());
+        }
+        if (query.eventType() != null) {
+            jpql.append(" AND e.eventType = :eventType");
+            params.put("eventType", query.eventType());
+        }
+        if (query.actor() != null) {
+            jpql.append(" AND e.actor = :actor");
+            params.put("actor", query.actor());
+        }
+        if (query.from() != null) {
+            jpql.append(" AND e.createdAt >= :from");
+            params.put("from", query.from());
+        }
+        if (query.to() != null) {
+            jpql.append(" AND e.createdAt < :to");
+            params.put("to", query.to());
+        }
+        if (query.afterCreatedAt() != null && query.afterId() != null) {
+            // La comparación de tuplas usa el índice; la cota simple sobre created_at permite la poda de particiones
+            jpql.append(" AND (e.createdAt, e.id) < (:afterCreatedAt, :afterId) AND e.createdAt <= :afterCreatedAt");
+            params.put("afterCreatedAt", query.afterCreatedAt());
+            params.put("afterId", query.afterId());
+        }
+        jpql.append(" ORDER BY e.createdAt DESC, e.id DESC");
+
+        TypedQuery<AuditEventResponse> typedQuery = entityManager.createQuery(jpql.toString(), AuditEventResponse.class);
+        params.forEach(typedQuery::setParameter);
+        return typedQuery.setMaxResults(query.limit()).getResultList();
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.ticketero.repository;
 
 import com.example.ticketero.model.entity.Message;
+import com.example.ticketero.model.enums.MessageStatus;
+import com.example.ticketero.model.enums.MessageType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -10,11 +14,20 @@ import java.util.List;
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    List<Message> findByDeliveryStatusAndRetryCountLessThan(String deliveryStatus, Integer maxRetries);
+    /**
+     * Mensajes pendientes cuya fecha programada ya venció.
+     * Usa el índice parcial idx_messages_pending.
+     */
+    @Query("""
+        SELECT m FROM Message m
+        JOIN FETCH m.ticket
+        WHERE m.status = :status
+        AND m.scheduledAt <= :now
+        ORDER BY m.scheduledAt ASC
+        """)
+    List<Message> findDueMessages(@Param("status") MessageStatus status, @Param("now") LocalDateTime now);
 
     List<Message> findByTicketIdOrderByCreatedAtDesc(Long ticketId);
-    
-    List<Message> findByDeliveryStatus(String deliveryStatus);
-    
-    List<Message> findByCreatedAtAfter(LocalDateTime date);
-}
\ No newline at end of file
+
+    boolean existsByTicketIdAndMessageTypeAndStatus(Long ticketId, MessageType messageType, MessageStatus status);
+}
@@ -0,0 +1,33 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.entity.TicketNumberSequence;
+import com.example.ticketero.model.enums.QueueType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface TicketNumberSequenceRepository extends JpaRepository<TicketNumberSequence, QueueType> {
+
+    /**
+     * Avanza el correlativo de la cola, reiniciándolo en 1 si es de otro día. El UPDATE deja
+     * la fila bloqueada hasta el commit, así dos tickets concurrentes nunca obtienen el mismo valor.
+     *
+     * @return Filas actualizadas (0 si la cola aún no tiene fila)
+     */
+    @Modifying
+    @Query("""
+        UPDATE TicketNumberSequence s
+        SET s.lastValue = CASE WHEN s.sequenceDay = :day THEN s.lastValue + 1 ELSE 1 END,
+            s.sequenceDay = :day
+        WHERE s.queueType = :queueType
+        """)
+    int advance(@Param("queueType") QueueType queueType, @Param("day") LocalDate day);
+
+    @Query("SELECT s.lastValue FROM TicketNumberSequence s WHERE s.queueType = :queueType")
+    int findLastValue(@Param("queueType") QueueType queueType);
+}
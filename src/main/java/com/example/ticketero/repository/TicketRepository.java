@@ -1,13 +1,20 @@
 package com.example.ticketero.repository;
 
+import com.example.ticketero.model.entity.Advisor;
 import com.example.ticketero.model.entity.Ticket;
 import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.projection.TicketDayStatusCount;
+import com.example.ticketero.repository.projection.TicketStatusCount;
+import com.example.ticketero.repository.projection.TicketView;
+import com.example.ticketero.repository.projection.WaitingTicket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,26 +24,75 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
     Optional<Ticket> findByUuid(UUID uuid);
 
-    Optional<Ticket> findByTicketNumber(String ticketNumber);
+    @Query("""
+        SELECT new com.example.ticketero.repository.projection.TicketView(
+            t.uuid, t.ticketNumber, t.queueType, t.status, t.queuePosition, t.estimatedWaitMinutes,
+            a.name, a.moduleNumber, t.createdAt)
+        FROM Ticket t LEFT JOIN t.advisor a
+        WHERE t.uuid = :uuid
+        """)
+    Optional<TicketView> findViewByUuid(@Param("uuid") UUID uuid);
+
+    /**
+     * Ticket más reciente con ese número: el correlativo se reinicia cada día y la tabla
+     * particionada solo exige unicidad junto con created_at.
+     */
+    @Query("""
+        SELECT new com.example.ticketero.repository.projection.TicketView(
+            t.uuid, t.ticketNumber, t.queueType, t.status, t.queuePosition, t.estimatedWaitMinutes,
+            a.name, a.moduleNumber, t.createdAt)
+        FROM Ticket t LEFT JOIN t.advisor a
+        WHERE t.ticketNumber = :ticketNumber
+        ORDER BY t.createdAt DESC
+        LIMIT 1
+        """)
+    Optional<TicketView> findViewByTicketNumber(@Param("ticketNumber") String ticketNumber);
+
+    /*
+     * Consultas de la fila activa: el estado va como literal para que PostgreSQL pueda usar
+     * los índices parciales sobre estados activos (V12) también con planes genéricos.
+     */
 
-    List<Ticket> findByStatusAndQueueTypeOrderByCreatedAtAsc(TicketStatus status, QueueType queueType);
+    /**
+     * Siguiente ticket en espera de la cola, por orden de llegada.
+     */
+    @Query("""
+        SELECT t FROM Ticket t
+        WHERE t.status = 'EN_ESPERA'
+        AND t.queueType = :queueType
+        ORDER BY t.createdAt ASC
+        LIMIT 1
+        """)
+    Optional<Ticket> findFirstWaitingByQueueType(@Param("queueType") QueueType queueType);
+
+    @Query("""
+        SELECT t FROM Ticket t
+        WHERE t.status = 'EN_ESPERA'
+        ORDER BY t.queueType, t.createdAt ASC
+        """)
+    List<Ticket> findAllWaiting();
 
-    long countByStatusAndQueueType(TicketStatus status, QueueType queueType);
+    /**
+     * Lectura liviana de la cola completa; la resuelve el índice parcial de tickets en espera.
+     */
+    @Query("""
+        SELECT new com.example.ticketero.repository.projection.WaitingTicket(t.id, t.queueType, t.createdAt)
+        FROM Ticket t
+        WHERE t.status = 'EN_ESPERA'
+        """)
+    List<WaitingTicket> findWaitingTickets();
 
     @Query("""
         SELECT COUNT(t) FROM Ticket t
-        WHERE t.status = :status
+        WHERE t.status = 'EN_ESPERA'
         AND t.queueType = :queueType
-        AND t.createdAt < (SELECT t2.createdAt FROM Ticket t2 WHERE t2.id = :ticketId)
+        AND t.createdAt < :createdAt
         """)
     long countTicketsAheadInQueue(
-        @Param("status") TicketStatus status,
         @Param("queueType") QueueType queueType,
-        @Param("ticketId") Long ticketId
+        @Param("createdAt") LocalDateTime createdAt
     );
 
-    List<Ticket> findByStatus(TicketStatus status);
-
     @Query("""
         SELECT t FROM Ticket t
         WHERE t.status = 'EN_ESPERA'
@@ -44,14 +100,63 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
         """)
     List<Ticket> findNextTicketToAssign();
 
+    long countByQueueTypeAndStatus(QueueType queueType, TicketStatus status);
+
+    /**
+     * Conteos del dashboard de los tickets creados desde {@code startOfDay}, agrupados por cola y estado.
+     * Solo acota por {@code created_at} para que PostgreSQL pode las particiones de días anteriores.
+     */
     @Query("""
-        SELECT t.ticketNumber FROM Ticket t
-        WHERE t.queueType = :queueType
-        AND CAST(t.createdAt AS DATE) = CURRENT_DATE
-        ORDER BY t.createdAt DESC
-        LIMIT 1
+        SELECT t.queueType AS queueType,
+               t.status AS status,
+               COUNT(t) AS total,
+               COALESCE(SUM(t.estimatedWaitMinutes), 0) AS waitSum,
+               COUNT(t.estimatedWaitMinutes) AS waitSamples
+        FROM Ticket t
+        WHERE t.createdAt >= :startOfDay
+        GROUP BY t.queueType, t.status
         """)
-    Optional<String> findLastTicketNumberOfDay(@Param("queueType") QueueType queueType);
+    List<TicketDayStatusCount> countCreatedSinceGroupedByQueueTypeAndStatus(@Param("startOfDay") LocalDateTime startOfDay);
 
-    long countByQueueTypeAndStatus(QueueType queueType, TicketStatus status);
-}
\ No newline at end of file
+    /**
+     * Tickets activos de cualquier día agrupados por cola y estado; usa el índice parcial
+     * {@code idx_tickets_active_queue_status}.
+     */
+    @Query("""
+        SELECT t.queueType AS queueType,
+               t.status AS status,
+               COUNT(t) AS total
+        FROM Ticket t
+        WHERE t.status IN ('EN_ESPERA', 'PROXIMO', 'ATENDIENDO')
+        GROUP BY t.queueType, t.status
+        """)
+    List<TicketStatusCount> countActiveGroupedByQueueTypeAndStatus();
+
+    /**
+     * Asigna el ticket solo si sigue en {@code expected}; devuelve 0 si otra transición ganó.
+     * La cota por created_at poda particiones.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Ticket t
+        SET t.status = 'ATENDIENDO', t.advisor = :advisor, t.assignedAt = :assignedAt
+        WHERE t.id = :id AND t.createdAt = :createdAt AND t.status = :expected
+        """)
+    int assignIfStatus(@Param("id") Long id,
+                       @Param("createdAt") LocalDateTime createdAt,
+                       @Param("expected") TicketStatus expected,
+                       @Param("advisor") Advisor advisor,
+                       @Param("assignedAt") LocalDateTime assignedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Ticket t
+        SET t.status = :target, t.completedAt = :completedAt
+        WHERE t.id = :id AND t.createdAt = :createdAt AND t.status = :expected
+        """)
+    int transitionIfStatus(@Param("id") Long id,
+                           @Param("createdAt") LocalDateTime createdAt,
+                           @Param("expected") TicketStatus expected,
+                           @Param("target") TicketStatus target,
+                           @Param("completedAt") LocalDateTime completedAt);
+}
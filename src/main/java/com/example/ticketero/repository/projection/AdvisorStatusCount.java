@@ -0,0 +1,16 @@
+package com.example.ticketero.repository.projection;
+
+import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.QueueType;
+
+/**
+ * Fila agrupada por (cola, estado) de asesores.
+ */
+public interface AdvisorStatusCount {
+
+    QueueType getQueueType();
+
+    AdvisorStatus getStatus();
+
+    long getTotal();
+}
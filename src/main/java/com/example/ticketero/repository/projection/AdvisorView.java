@@ -0,0 +1,17 @@
+package com.example.ticketero.repository.projection;
+
+import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.QueueType;
+
+/**
+ * Asesor con su ticket en atención, para el listado de administración.
+ */
+public record AdvisorView(
+    Long id,
+    String name,
+    Integer moduleNumber,
+    QueueType queueType,
+    AdvisorStatus status,
+    Long currentTicketId,
+    String currentTicketNumber
+) {}
@@ -0,0 +1,12 @@
+package com.example.ticketero.repository.projection;
+
+/**
+ * Fila agrupada por (cola, estado) de los tickets creados hoy, con la suma y el número
+ * de muestras del tiempo estimado de espera para calcular el promedio.
+ */
+public interface TicketDayStatusCount extends TicketStatusCount {
+
+    long getWaitSum();
+
+    long getWaitSamples();
+}
@@ -0,0 +1,16 @@
+package com.example.ticketero.repository.projection;
+
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+
+/**
+ * Fila agrupada por (cola, estado) para el dashboard.
+ */
+public interface TicketStatusCount {
+
+    QueueType getQueueType();
+
+    TicketStatus getStatus();
+
+    long getTotal();
+}
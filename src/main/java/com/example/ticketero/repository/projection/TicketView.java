@@ -0,0 +1,22 @@
+package com.example.ticketero.repository.projection;
+
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Campos de lectura de un ticket y de su asesor, obtenidos en un solo SELECT sin cargar entidades.
+ */
+public record TicketView(
+    UUID uuid,
+    String ticketNumber,
+    QueueType queueType,
+    TicketStatus status,
+    Integer queuePosition,
+    Integer estimatedWaitMinutes,
+    String advisorName,
+    Integer moduleNumber,
+    LocalDateTime createdAt
+) {}
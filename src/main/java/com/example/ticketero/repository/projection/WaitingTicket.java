@@ -0,0 +1,14 @@
+package com.example.ticketero.repository.projection;
+
+import com.example.ticketero.model.enums.QueueType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ticket en espera reducido a lo necesario para ordenar la cola por llegada.
+ */
+public record WaitingTicket(
+    Long id,
+    QueueType queueType,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,36 @@
+package com.example.ticketero.scheduler;
+
+import com.example.ticketero.audit.journal.AuditJournal;
+import com.example.ticketero.audit.journal.AuditJournalShipper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fuerza a disco el segmento activo del diario de auditoría y envía los segmentos sellados.
+ */
+@Component
+@ConditionalOnProperty(name = "audit.sink", havingValue = "journal")
+@RequiredArgsConstructor
+@Slf4j
+public class AuditJournalScheduler {
+
+    private final AuditJournal auditJournal;
+    private final AuditJournalShipper auditJournalShipper;
+
+    @Scheduled(fixedDelayString = "${audit.journal.force-interval-millis:1000}")
+    public void forceActiveSegment() {
+        auditJournal.force();
+    }
+
+    @Scheduled(fixedDelayString = "${audit.journal.ship-interval-millis:10000}")
+    public void shipSealedSegments() {
+        try {
+            auditJournalShipper.shipPending();
+        } catch (Exception e) {
+            log.error("Error shipping audit journal segments", e);
+        }
+    }
+}
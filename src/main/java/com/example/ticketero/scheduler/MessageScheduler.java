@@ -1,6 +1,9 @@
 package com.example.ticketero.scheduler;
 
+import com.example.ticketero.exception.InvalidMessageParamsException;
+import com.example.ticketero.jfr.QueueRefreshEvent;
 import com.example.ticketero.model.entity.Message;
+import com.example.ticketero.model.enums.MessageStatus;
 import com.example.ticketero.repository.MessageRepository;
 import com.example.ticketero.service.TelegramService;
 import lombok.RequiredArgsConstructor;
@@ -32,12 +35,15 @@ public class MessageScheduler {
     @Scheduled(fixedRate = 60000) // Cada 60 segundos
     @Transactional
     public void procesarMensajesPendientes() {
+        QueueRefreshEvent event = new QueueRefreshEvent();
+        event.begin();
         LocalDateTime now = LocalDateTime.now();
         
-        List<Message> mensajesPendientes = messageRepository.findByDeliveryStatus("PENDING");
+        List<Message> mensajesPendientes = messageRepository.findDueMessages(MessageStatus.PENDIENTE, now);
         
         if (mensajesPendientes.isEmpty()) {
             log.debug("No pending messages to process");
+            event.emit(QueueRefreshEvent.PENDING_MESSAGES, 0);
             return;
         }
         
@@ -46,6 +52,7 @@ public class MessageScheduler {
         for (Message mensaje : mensajesPendientes) {
             procesarMensaje(mensaje);
         }
+        event.emit(QueueRefreshEvent.PENDING_MESSAGES, mensajesPendientes.size());
     }
 
     /**
@@ -54,19 +61,17 @@ public class MessageScheduler {
     private void procesarMensaje(Message mensaje) {
         try {
             String chatId = telegramService.extractChatId(mensaje.getTicket().getCustomerPhone());
-            String texto = telegramService.getMessageText(
-                mensaje.getMessageType(), 
-                mensaje.getTicket()
-            );
+            String texto = telegramService.getMessageText(mensaje);
             
             log.debug("Processing message ID: {} for ticket: {}", 
                      mensaje.getId(), mensaje.getTicket().getTicketNumber());
             
-            String telegramMessageId = telegramService.sendMessage(chatId, texto);
+            String telegramMessageId = telegramService.sendMessage(chatId, texto,
+                mensaje.getMessageType(), mensaje.getTicket().getTicketNumber());
             
             if (telegramMessageId != null) {
                 // Envío exitoso
-                mensaje.setDeliveryStatus("SENT");
+                mensaje.setStatus(MessageStatus.ENVIADO);
                 mensaje.setSentAt(LocalDateTime.now());
                 
                 log.info("Message sent successfully for ticket: {}, telegramMessageId: {}", 
@@ -78,6 +83,11 @@ public class MessageScheduler {
             
             messageRepository.save(mensaje);
             
+        } catch (InvalidMessageParamsException e) {
+            // Los datos no van a aparecer con reintentos
+            log.error("Message ID: {} cannot be rendered, marking as failed: {}", mensaje.getId(), e.getMessage());
+            mensaje.setStatus(MessageStatus.FALLIDO);
+            messageRepository.save(mensaje);
         } catch (Exception e) {
             log.error("Error processing message ID: {} for ticket: {}", 
                      mensaje.getId(), mensaje.getTicket().getTicketNumber(), e);
@@ -92,18 +102,17 @@ public class MessageScheduler {
      * RN-008: Backoff exponencial: 30s, 60s, 120s.
      */
     private void manejarFalloEnvio(Message mensaje) {
-        int intentos = mensaje.getRetryCount() + 1;
-        mensaje.setRetryCount(intentos);
+        int intentos = mensaje.getAttempts() + 1;
+        mensaje.setAttempts((short) intentos);
         
         if (intentos >= 3) {
             // Máximo de reintentos alcanzado
-            mensaje.setDeliveryStatus("FAILED");
+            mensaje.setStatus(MessageStatus.FALLIDO);
             log.error("Message failed permanently after {} attempts for ticket: {}", 
                      intentos, mensaje.getTicket().getTicketNumber());
         } else {
             // Programar reintento con backoff exponencial
-            LocalDateTime nextRetry = calcularProximoReintento(intentos);
-            // No hay campo fechaProgramada en Message, usar createdAt
+            mensaje.setScheduledAt(calcularProximoReintento(intentos));
             
             log.warn("Message failed, scheduling retry {} for ticket: {}", 
                     intentos, mensaje.getTicket().getTicketNumber());
@@ -124,20 +133,4 @@ public class MessageScheduler {
             default -> now.plusMinutes(5);  // Fallback
         };
     }
-
-    /**
-     * Limpia mensajes antiguos fallidos (ejecuta diariamente a las 2 AM).
-     */
-    @Scheduled(cron = "0 0 2 * * *")
-    @Transactional
-    public void limpiarMensajesAntiguos() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(7);
-        
-        List<Message> mensajesAntiguos = messageRepository.findByCreatedAtAfter(cutoffDate);
-        
-        if (!mensajesAntiguos.isEmpty()) {
-            log.info("Cleaning up {} old messages", mensajesAntiguos.size());
-            // TODO: Implementar limpieza si es necesario
-        }
-    }
 }
\ No newline at end of file
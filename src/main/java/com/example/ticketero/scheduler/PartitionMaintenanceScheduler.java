@@ -0,0 +1,52 @@
+package com.example.ticketero.scheduler;
+
+import com.example.ticketero.service.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Crea las particiones futuras al iniciar y luego diariamente (por defecto a la 1 AM);
+ * en la ejecución diaria también separa las particiones de tickets fuera de retención.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceScheduler {
+
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    @Value("${partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${partitions.tickets.retain-months:13}")
+    private int ticketRetainMonths;
+
+    @Value("${partitions.tickets.drop-detached:false}")
+    private boolean dropDetachedTickets;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createUpcomingPartitions() {
+        for (String table : new String[] {"audit_events", "tickets"}) {
+            try {
+                partitionMaintenanceService.ensureMonthlyPartitions(table, monthsAhead);
+            } catch (Exception e) {
+                log.error("Error creating upcoming partitions for {}", table, e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${partitions.cron:0 0 1 * * *}")
+    public void maintainPartitions() {
+        createUpcomingPartitions();
+        try {
+            partitionMaintenanceService.detachPartitionsOlderThan("tickets", ticketRetainMonths, dropDetachedTickets);
+        } catch (Exception e) {
+            log.error("Error detaching old ticket partitions", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.ticketero.scheduler;
+
+import com.example.ticketero.service.RetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ejecuta la purga de retención diariamente (por defecto a las 2 AM).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionScheduler {
+
+    private final RetentionService retentionService;
+
+    @Scheduled(cron = "${retention.cron:0 0 2 * * *}")
+    public void purgeExpiredRows() {
+        try {
+            retentionService.purgeAll();
+        } catch (Exception e) {
+            log.error("Error running retention purge", e);
+        }
+    }
+}
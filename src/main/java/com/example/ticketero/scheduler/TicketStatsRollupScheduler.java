@@ -0,0 +1,27 @@
+package com.example.ticketero.scheduler;
+
+import com.example.ticketero.service.TicketStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actualiza los rollups de estadísticas de tickets cada cinco minutos (por defecto).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketStatsRollupScheduler {
+
+    private final TicketStatsService ticketStatsService;
+
+    @Scheduled(fixedDelayString = "${rollup.interval-ms:300000}", initialDelayString = "${rollup.initial-delay-ms:60000}")
+    public void rollUpTicketStats() {
+        try {
+            ticketStatsService.rollUp();
+        } catch (Exception e) {
+            log.error("Error running ticket stats rollup", e);
+        }
+    }
+}
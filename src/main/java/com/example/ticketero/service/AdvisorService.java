@@ -1,11 +1,11 @@
 package com.example.ticketero.service;
 
+import com.example.ticketero.cache.AdvisorCacheInvalidator;
 import com.example.ticketero.model.dto.response.AdvisorResponse;
 import com.example.ticketero.model.entity.Advisor;
-import com.example.ticketero.model.entity.Ticket;
 import com.example.ticketero.model.enums.AdvisorStatus;
-import com.example.ticketero.model.enums.TicketStatus;
 import com.example.ticketero.repository.AdvisorRepository;
+import com.example.ticketero.repository.projection.AdvisorView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,9 +24,11 @@ public class AdvisorService {
     private final AdvisorRepository advisorRepository;
     private final AssignmentService assignmentService;
     private final AuditService auditService;
+    private final DashboardAggregator dashboardAggregator;
+    private final AdvisorCacheInvalidator advisorCacheInvalidator;
 
     public List<AdvisorResponse> getAllAdvisors() {
-        return advisorRepository.findAll()
+        return advisorRepository.findAllViews()
             .stream()
             .map(this::toResponse)
             .toList();
@@ -43,6 +45,8 @@ public class AdvisorService {
         AdvisorStatus oldStatus = advisor.getStatus();
         advisor.setStatus(newStatus);
         advisor.setUpdatedAt(LocalDateTime.now());
+        dashboardAggregator.onAdvisorStatusChanged(advisor, oldStatus, newStatus);
+        advisorCacheInvalidator.advisorChanged(advisor.getId());
 
         // Log audit event (RF-008)
         auditService.logAdvisorStatusChanged(advisor.getId(), advisor.getName(), 
@@ -57,21 +61,15 @@ public class AdvisorService {
         }
     }
 
-    private AdvisorResponse toResponse(Advisor advisor) {
-        Ticket currentTicket = advisor.getTickets()
-            .stream()
-            .filter(t -> t.getStatus() == TicketStatus.PROXIMO || t.getStatus() == TicketStatus.ATENDIENDO)
-            .findFirst()
-            .orElse(null);
-
+    private AdvisorResponse toResponse(AdvisorView advisor) {
         return new AdvisorResponse(
-            advisor.getId(),
-            advisor.getName(),
-            advisor.getModuleNumber(),
-            advisor.getQueueType().name(),
-            advisor.getStatus().name(),
-            currentTicket != null ? currentTicket.getId() : null,
-            currentTicket != null ? currentTicket.getTicketNumber() : null
+            advisor.id(),
+            advisor.name(),
+            advisor.moduleNumber(),
+            advisor.queueType().name(),
+            advisor.status().name(),
+            advisor.currentTicketId(),
+            advisor.currentTicketNumber()
         );
     }
 }
\ No newline at end of file
@@ -1,16 +1,29 @@
 package com.example.ticketero.service;
 
+import com.example.ticketero.cache.AdvisorCacheInvalidator;
+import com.example.ticketero.datasource.ReplicaReads;
+import com.example.ticketero.exception.TicketConflictException;
+import com.example.ticketero.jfr.QueueRefreshEvent;
+import com.example.ticketero.jfr.TicketAssignedEvent;
+import com.example.ticketero.jfr.TicketCompletedEvent;
+import com.example.ticketero.metrics.LifecycleMetrics;
+import com.example.ticketero.metrics.LifecycleOperation;
+import com.example.ticketero.metrics.LifecycleTiming;
 import com.example.ticketero.model.entity.*;
 import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.MessageStatus;
+import com.example.ticketero.model.enums.MessageType;
 import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.model.enums.TicketStatus;
 import com.example.ticketero.repository.AdvisorRepository;
+import com.example.ticketero.repository.MessageRepository;
 import com.example.ticketero.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -24,54 +37,87 @@ public class AssignmentService {
 
     private final TicketRepository ticketRepository;
     private final AdvisorRepository advisorRepository;
+    private final MessageRepository messageRepository;
     private final TelegramService telegramService;
     private final AuditService auditService;
+    private final DashboardAggregator dashboardAggregator;
+    private final QueueMonitor queueMonitor;
+    private final WaitTimeAnalytics waitTimeAnalytics;
+    private final ReplicaReads replicaReads;
+    private final AdvisorCacheInvalidator advisorCacheInvalidator;
+    private final TicketStateMachine ticketStateMachine;
+    private final LifecycleMetrics lifecycleMetrics;
 
     @Transactional
     public void assignNextTicket(Long advisorId) {
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.ASSIGNMENT_NEXT);
+        try {
+            timing.stop(assignNext(advisorId, timing));
+        } catch (RuntimeException e) {
+            timing.failure(e);
+            throw e;
+        }
+    }
+
+    private String assignNext(Long advisorId, LifecycleTiming timing) {
         Optional<Advisor> advisorOpt = advisorRepository.findById(advisorId);
         if (advisorOpt.isEmpty()) {
             log.warn("Advisor not found: {}", advisorId);
-            return;
+            return "not_found";
         }
 
         Advisor advisor = advisorOpt.get();
+        timing.dimension(advisor.getQueueType());
         if (advisor.getStatus() != AdvisorStatus.AVAILABLE) {
             log.warn("Advisor {} is not available", advisorId);
-            return;
+            return "unavailable";
         }
 
         Optional<Ticket> nextTicket = findNextTicketForAdvisor(advisor);
         if (nextTicket.isEmpty()) {
             log.info("No tickets waiting for advisor {} ({})", advisor.getName(), advisor.getQueueType());
-            return;
+            return "idle";
         }
 
-        assignTicketToAdvisor(nextTicket.get(), advisor);
+        return tryAssign(nextTicket.get(), advisor) ? "success" : "conflict";
     }
 
     @Transactional
     public void processQueueUpdates() {
+        QueueRefreshEvent event = new QueueRefreshEvent();
+        event.begin();
         // Check for pre-notice messages (position <= 3)
-        List<Ticket> waitingTickets = ticketRepository.findByStatus(TicketStatus.EN_ESPERA);
+        List<Ticket> waitingTickets = ticketRepository.findAllWaiting();
 
         for (Ticket ticket : waitingTickets) {
             updateQueuePosition(ticket);
             
             if (ticket.getQueuePosition() != null && ticket.getQueuePosition() <= 3) {
-                // Check if pre-notice already sent
-                boolean preNoticeSent = ticket.getMessages().stream()
-                    .anyMatch(msg -> "PRE_NOTICE".equals(msg.getMessageType()) && "SENT".equals(msg.getDeliveryStatus()));
+                // Check if pre-notice already sent (solo para los primeros de cada cola, sin recorrer ticket.getMessages())
+                boolean preNoticeSent = messageRepository.existsByTicketIdAndMessageTypeAndStatus(
+                    ticket.getId(), MessageType.PRE_NOTICE, MessageStatus.ENVIADO);
                 
                 if (!preNoticeSent) {
                     telegramService.sendPreNoticeMessage(ticket);
                 }
             }
         }
+        event.emit(QueueRefreshEvent.TICKET_POSITIONS, waitingTickets.size());
     }
 
     @Transactional
     public void processAllAssignments() {
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.ASSIGNMENT_BATCH);
+        try {
+            assignAll();
+            timing.success();
+        } catch (RuntimeException e) {
+            timing.failure(e);
+            throw e;
+        }
+    }
+
+    private void assignAll() {
         log.info("Processing all pending assignments...");
         
         // Get all available advisors
@@ -80,8 +126,7 @@ public class AssignmentService {
         int assignedCount = 0;
         for (Advisor advisor : availableAdvisors) {
             Optional<Ticket> nextTicket = findNextTicketForAdvisor(advisor);
-            if (nextTicket.isPresent()) {
-                assignTicketToAdvisor(nextTicket.get(), advisor);
+            if (nextTicket.isPresent() && tryAssign(nextTicket.get(), advisor)) {
                 assignedCount++;
             }
         }
@@ -94,33 +139,50 @@ public class AssignmentService {
 
     private Optional<Ticket> findNextTicketForAdvisor(Advisor advisor) {
         // Buscar tickets del mismo tipo de cola que el asesor
-        List<Ticket> tickets = ticketRepository.findByStatusAndQueueTypeOrderByCreatedAtAsc(
-            TicketStatus.EN_ESPERA, advisor.getQueueType()
-        );
-        
-        if (!tickets.isEmpty()) {
-            return Optional.of(tickets.get(0));
+        return ticketRepository.findFirstWaitingByQueueType(advisor.getQueueType());
+    }
+
+    /**
+     * Otra instancia puede haber tomado el mismo ticket; se omite y el siguiente ciclo reintenta.
+     */
+    private boolean tryAssign(Ticket ticket, Advisor advisor) {
+        try {
+            assignTicketToAdvisor(ticket, advisor);
+            return true;
+        } catch (TicketConflictException e) {
+            log.info("Ticket {} was taken by a concurrent assignment, skipping", ticket.getTicketNumber());
+            return false;
         }
-        
-        return Optional.empty();
     }
 
     private void assignTicketToAdvisor(Ticket ticket, Advisor advisor) {
+        TicketAssignedEvent event = new TicketAssignedEvent();
+        event.begin();
+        AdvisorStatus oldAdvisorStatus = advisor.getStatus();
+
         // Update ticket
-        ticket.setStatus(TicketStatus.ATENDIENDO);
-        ticket.setAdvisor(advisor);
-        ticket.setAssignedAt(LocalDateTime.now());
+        TicketStatus oldTicketStatus = ticketStateMachine.assign(ticket, advisor);
 
         // Update advisor
         advisor.setStatus(AdvisorStatus.BUSY);
+        advisor.setCurrentTicket(ticket);
         advisor.setUpdatedAt(LocalDateTime.now());
 
+        dashboardAggregator.onTicketStatusChanged(ticket, oldTicketStatus, TicketStatus.ATENDIENDO);
+        queueMonitor.onTicketStatusChanged(ticket, oldTicketStatus, TicketStatus.ATENDIENDO);
+        dashboardAggregator.onAdvisorStatusChanged(advisor, oldAdvisorStatus, AdvisorStatus.BUSY);
+        advisorCacheInvalidator.advisorChanged(advisor.getId());
+        waitTimeAnalytics.onTicketAssigned(ticket);
+        replicaReads.recordWrite(ticket.getUuid(), ticket.getTicketNumber());
+
         // Send turn active message (RF-002 - Message 3)
         telegramService.sendTurnActiveMessage(ticket);
 
         // Log audit event (RF-008)
         auditService.logTicketAssigned(ticket.getId(), ticket.getTicketNumber(), 
             advisor.getId(), advisor.getName());
+        event.emit(ticket.getTicketNumber(), ticket.getQueueType().name(), advisor.getId(),
+            Duration.between(ticket.getCreatedAt(), ticket.getAssignedAt()).toMillis());
 
         log.info("Ticket {} assigned to advisor {} (Module {})", 
             ticket.getTicketNumber(), advisor.getName(), advisor.getModuleNumber());
@@ -128,19 +190,42 @@ public class AssignmentService {
 
     @Transactional
     public void completeTicket(Long ticketId) {
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.TICKET_COMPLETE);
+        try {
+            timing.stop(complete(ticketId, timing));
+        } catch (RuntimeException e) {
+            timing.failure(e);
+            throw e;
+        }
+    }
+
+    private String complete(Long ticketId, LifecycleTiming timing) {
+        TicketCompletedEvent event = new TicketCompletedEvent();
+        event.begin();
         Optional<Ticket> ticketOpt = ticketRepository.findById(ticketId);
         if (ticketOpt.isEmpty()) {
             log.warn("Ticket not found: {}", ticketId);
-            return;
+            return "not_found";
         }
 
         Ticket ticket = ticketOpt.get();
-        ticket.setStatus(TicketStatus.COMPLETADO);
-        ticket.setCompletedAt(LocalDateTime.now());
+        timing.dimension(ticket.getQueueType());
+        TicketStatus oldStatus = ticketStateMachine.transition(ticket, TicketStatus.COMPLETADO);
+        dashboardAggregator.onTicketStatusChanged(ticket, oldStatus, TicketStatus.COMPLETADO);
+        queueMonitor.onTicketStatusChanged(ticket, oldStatus, TicketStatus.COMPLETADO);
+        waitTimeAnalytics.onTicketCompleted(ticket);
+        replicaReads.recordWrite(ticket.getUuid(), ticket.getTicketNumber());
 
         if (ticket.getAdvisor() != null) {
+            AdvisorStatus oldAdvisorStatus = ticket.getAdvisor().getStatus();
             ticket.getAdvisor().setStatus(AdvisorStatus.AVAILABLE);
+            Ticket currentTicket = ticket.getAdvisor().getCurrentTicket();
+            if (currentTicket != null && currentTicket.getId().equals(ticket.getId())) {
+                ticket.getAdvisor().setCurrentTicket(null);
+            }
             ticket.getAdvisor().setUpdatedAt(LocalDateTime.now());
+            dashboardAggregator.onAdvisorStatusChanged(ticket.getAdvisor(), oldAdvisorStatus, AdvisorStatus.AVAILABLE);
+            advisorCacheInvalidator.advisorChanged(ticket.getAdvisor().getId());
             
             // Try to assign next ticket automatically
             assignNextTicket(ticket.getAdvisor().getId());
@@ -148,8 +233,11 @@ public class AssignmentService {
 
         // Log audit event (RF-008)
         auditService.logTicketCompleted(ticket.getId(), ticket.getTicketNumber());
+        event.emit(ticket.getTicketNumber(), ticket.getQueueType().name(),
+            ticket.getAdvisor() != null ? ticket.getAdvisor().getId() : null);
 
         log.info("Ticket {} completed", ticket.getTicketNumber());
+        return "success";
     }
 
     private void updateQueuePosition(Ticket ticket) {
@@ -158,9 +246,8 @@ public class AssignmentService {
         }
 
         long position = ticketRepository.countTicketsAheadInQueue(
-            TicketStatus.EN_ESPERA, 
             ticket.getQueueType(), 
-            ticket.getId()
+            ticket.getCreatedAt()
         ) + 1;
 
         long availableAdvisors = advisorRepository.countByStatusAndQueueType(
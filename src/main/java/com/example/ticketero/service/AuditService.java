@@ -1,35 +1,64 @@
 package com.example.ticketero.service;
 
-import com.example.ticketero.model.entity.AuditEvent;
+import com.example.ticketero.audit.AuditRecord;
+import com.example.ticketero.audit.AuditSink;
+import com.example.ticketero.model.dto.response.AuditEventResponse;
+import com.example.ticketero.model.dto.response.AuditPageResponse;
+import com.example.ticketero.repository.AuditEventQuery;
 import com.example.ticketero.repository.AuditEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class AuditService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final AuditSink auditSink;
     private final AuditEventRepository auditEventRepository;
 
+    /**
+     * Consulta paginada por keyset sobre (created_at, id), del más reciente al más antiguo.
+     *
+     * @param cursor {@code nextCursor} de la página anterior, o null para la primera
+     */
+    public AuditPageResponse findEvents(String entityType, Long entityId, String eventType, String actor,
+                                        LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+
+        List<AuditEventResponse> events = auditEventRepository.findPage(new AuditEventQuery(
+            entityType, entityId, eventType, actor, from, to,
+            after != null ? after.createdAt() : null,
+            after != null ? after.id() : null,
+            limit + 1
+        ));
+
+        boolean hasMore = events.size() > limit;
+        List<AuditEventResponse> page = hasMore ? events.subList(0, limit) : events;
+        String nextCursor = hasMore ? Cursor.encode(page.get(page.size() - 1)) : null;
+        return new AuditPageResponse(page, nextCursor);
+    }
+
     @Transactional
     public void logEvent(String eventType, String entityType, Long entityId, 
                         String actor, String oldValue, String newValue, String description) {
         
-        AuditEvent event = AuditEvent.builder()
-            .eventType(eventType)
-            .entityType(entityType)
-            .entityId(entityId)
-            .actor(actor)
-            .oldValue(oldValue)
-            .newValue(newValue)
-            .description(description)
-            .build();
-
-        auditEventRepository.save(event);
+        auditSink.write(new AuditRecord(eventType, entityType, entityId, actor,
+            oldValue, newValue, description, LocalDateTime.now()));
         log.debug("Audit event logged: {} for {} {}", eventType, entityType, entityId);
     }
 
@@ -62,4 +91,24 @@ public class AuditService {
         logEvent("MESSAGE_SENT", "MESSAGE", messageId, "SYSTEM", 
                 "PENDING", deliveryStatus, "Message " + messageType + " for ticket ID: " + ticketId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Posición opaca para el cliente: base64url de "createdAt|id" de la última fila entregada.
+     */
+    private record Cursor(LocalDateTime createdAt, long id) {
+
+        static String encode(AuditEventResponse last) {
+            String position = last.createdAt() + "|" + last.id();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid audit cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.AdvisorRepository;
+import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.repository.projection.AdvisorStatusCount;
+import com.example.ticketero.repository.projection.TicketDayStatusCount;
+import com.example.ticketero.repository.projection.TicketStatusCount;
+import com.example.ticketero.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores en memoria para el dashboard (RF-007).
+ * Se actualizan en cada transición de ticket y asesor (tras el commit), se reinician
+ * al cambiar el día y se reconcilian periódicamente contra la base de datos,
+ * de modo que leer el dashboard no requiere consultas. La reconciliación usa tres consultas
+ * agrupadas por cola y estado: tickets de hoy, tickets activos y asesores.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardAggregator {
+
+    private static final int QUEUES = QueueType.values().length;
+    private static final int TICKET_STATUSES = TicketStatus.values().length;
+    private static final int ADVISOR_STATUSES = AdvisorStatus.values().length;
+
+    private final TicketRepository ticketRepository;
+    private final AdvisorRepository advisorRepository;
+
+    /** Tickets activos (de cualquier día) por [cola][estado]. */
+    private final AtomicLongArray activeTickets = new AtomicLongArray(QUEUES * TICKET_STATUSES);
+    /** Tickets creados hoy por estado actual. */
+    private final AtomicLongArray todayTickets = new AtomicLongArray(TICKET_STATUSES);
+    private final AtomicLong todayWaitMinutesSum = new AtomicLong();
+    private final AtomicLong todayWaitSamples = new AtomicLong();
+    /** Asesores por [cola][estado]. */
+    private final AtomicLongArray advisors = new AtomicLongArray(QUEUES * ADVISOR_STATUSES);
+    /** Se incrementa ante cualquier cambio que afecte el listado de asesores. */
+    private final AtomicLong advisorVersion = new AtomicLong();
+    /** Se incrementa ante cualquier cambio de contadores. */
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile LocalDate currentDay = LocalDate.now();
+
+    public void onTicketCreated(Ticket ticket) {
+        QueueType queueType = ticket.getQueueType();
+        Integer estimatedWait = ticket.getEstimatedWaitMinutes();
+        TransactionHooks.afterCommit(() -> {
+            rollDayIfNeeded();
+            activeTickets.incrementAndGet(index(queueType, TicketStatus.EN_ESPERA));
+            todayTickets.incrementAndGet(TicketStatus.EN_ESPERA.ordinal());
+            if (estimatedWait != null) {
+                todayWaitMinutesSum.addAndGet(estimatedWait);
+                todayWaitSamples.incrementAndGet();
+            }
+            version.incrementAndGet();
+        });
+    }
+
+    public void onTicketStatusChanged(Ticket ticket, TicketStatus from, TicketStatus to) {
+        QueueType queueType = ticket.getQueueType();
+        LocalDate createdDay = ticket.getCreatedAt() != null ? ticket.getCreatedAt().toLocalDate() : null;
+        TransactionHooks.afterCommit(() -> {
+            rollDayIfNeeded();
+            if (from.isActive()) {
+                activeTickets.decrementAndGet(index(queueType, from));
+            }
+            if (to.isActive()) {
+                activeTickets.incrementAndGet(index(queueType, to));
+            }
+            if (currentDay.equals(createdDay)) {
+                todayTickets.decrementAndGet(from.ordinal());
+                todayTickets.incrementAndGet(to.ordinal());
+            }
+            advisorVersion.incrementAndGet();
+            version.incrementAndGet();
+        });
+    }
+
+    public void onAdvisorStatusChanged(Advisor advisor, AdvisorStatus from, AdvisorStatus to) {
+        QueueType queueType = advisor.getQueueType();
+        TransactionHooks.afterCommit(() -> {
+            advisors.decrementAndGet(index(queueType, from));
+            advisors.incrementAndGet(index(queueType, to));
+            advisorVersion.incrementAndGet();
+            version.incrementAndGet();
+        });
+    }
+
+    /**
+     * Lectura directa de un contador, sin copiar el resto (para gauges).
+     */
+    public long activeTickets(QueueType queueType, TicketStatus status) {
+        return activeTickets.get(index(queueType, status));
+    }
+
+    public long advisors(QueueType queueType, AdvisorStatus status) {
+        return advisors.get(index(queueType, status));
+    }
+
+    /**
+     * Versión de los contadores; cambia con cada actualización.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Copia consistente por contador (no atómica entre contadores) del estado actual.
+     */
+    public DashboardCounts snapshot() {
+        rollDayIfNeeded();
+        long[] active = new long[activeTickets.length()];
+        for (int i = 0; i < active.length; i++) {
+            active[i] = activeTickets.get(i);
+        }
+        long[] today = new long[todayTickets.length()];
+        for (int i = 0; i < today.length; i++) {
+            today[i] = todayTickets.get(i);
+        }
+        long[] advisorCounts = new long[advisors.length()];
+        for (int i = 0; i < advisorCounts.length; i++) {
+            advisorCounts[i] = advisors.get(i);
+        }
+        long samples = todayWaitSamples.get();
+        double averageWait = samples > 0 ? (double) todayWaitMinutesSum.get() / samples : 0.0;
+        return new DashboardCounts(active, today, advisorCounts, averageWait, advisorVersion.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Recalcula todos los contadores desde la base de datos para corregir derivas
+     * (transacciones concurrentes con la reconciliación, cambios fuera de la aplicación).
+     */
+    @Scheduled(fixedDelayString = "${dashboard.reconcile-interval-ms:60000}",
+               initialDelayString = "${dashboard.reconcile-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        LocalDate day = LocalDate.now();
+        List<TicketDayStatusCount> todayCounts =
+            ticketRepository.countCreatedSinceGroupedByQueueTypeAndStatus(day.atStartOfDay());
+        List<TicketStatusCount> activeCounts = ticketRepository.countActiveGroupedByQueueTypeAndStatus();
+        List<AdvisorStatusCount> advisorCounts = advisorRepository.countGroupedByQueueTypeAndStatus();
+
+        clear(activeTickets);
+        clear(todayTickets);
+        clear(advisors);
+        long waitSum = 0;
+        long waitSamples = 0;
+
+        for (TicketDayStatusCount row : todayCounts) {
+            todayTickets.addAndGet(row.getStatus().ordinal(), row.getTotal());
+            waitSum += row.getWaitSum();
+            waitSamples += row.getWaitSamples();
+        }
+        for (TicketStatusCount row : activeCounts) {
+            activeTickets.set(index(row.getQueueType(), row.getStatus()), row.getTotal());
+        }
+        todayWaitMinutesSum.set(waitSum);
+        todayWaitSamples.set(waitSamples);
+
+        for (AdvisorStatusCount row : advisorCounts) {
+            advisors.set(index(row.getQueueType(), row.getStatus()), row.getTotal());
+        }
+
+        currentDay = day;
+        advisorVersion.incrementAndGet();
+        version.incrementAndGet();
+        log.debug("Dashboard counters reconciled for {}", day);
+    }
+
+    private void rollDayIfNeeded() {
+        LocalDate today = LocalDate.now();
+        if (today.equals(currentDay)) {
+            return;
+        }
+        synchronized (this) {
+            if (today.equals(currentDay)) {
+                return;
+            }
+            clear(todayTickets);
+            todayWaitMinutesSum.set(0);
+            todayWaitSamples.set(0);
+            currentDay = today;
+            version.incrementAndGet();
+            log.info("Dashboard daily counters reset for {}", today);
+        }
+    }
+
+    private static void clear(AtomicLongArray counters) {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private static int index(QueueType queueType, TicketStatus status) {
+        return queueType.ordinal() * TICKET_STATUSES + status.ordinal();
+    }
+
+    private static int index(QueueType queueType, AdvisorStatus status) {
+        return queueType.ordinal() * ADVISOR_STATUSES + status.ordinal();
+    }
+
+    /**
+     * Copia inmutable de los contadores.
+     */
+    public record DashboardCounts(
+        long[] activeTickets,
+        long[] todayTickets,
+        long[] advisors,
+        double averageWaitToday,
+        long advisorVersion
+    ) {
+
+        public long activeTickets(QueueType queueType, TicketStatus status) {
+            return activeTickets[index(queueType, status)];
+        }
+
+        public long todayTickets(TicketStatus status) {
+            return todayTickets[status.ordinal()];
+        }
+
+        public long totalToday() {
+            long total = 0;
+            for (long count : todayTickets) {
+                total += count;
+            }
+            return total;
+        }
+
+        public long advisors(QueueType queueType, AdvisorStatus status) {
+            return advisors[index(queueType, status)];
+        }
+
+        public long advisors(AdvisorStatus status) {
+            long total = 0;
+            for (QueueType queueType : QueueType.values()) {
+                total += advisors(queueType, status);
+            }
+            return total;
+        }
+    }
+}
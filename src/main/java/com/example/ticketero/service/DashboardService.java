@@ -1,19 +1,20 @@
 package com.example.ticketero.service;
 
+import com.example.ticketero.metrics.LifecycleMetrics;
+import com.example.ticketero.metrics.LifecycleOperation;
+import com.example.ticketero.metrics.LifecycleTiming;
 import com.example.ticketero.model.dto.response.*;
-import com.example.ticketero.model.entity.*;
 import com.example.ticketero.model.enums.AdvisorStatus;
 import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.model.enums.TicketStatus;
-import com.example.ticketero.repository.AdvisorRepository;
-import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.service.DashboardAggregator.DashboardCounts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,68 +25,60 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class DashboardService {
 
-    private final TicketRepository ticketRepository;
-    private final AdvisorRepository advisorRepository;
+    private final DashboardAggregator dashboardAggregator;
     private final AdvisorService advisorService;
+    private final LifecycleMetrics lifecycleMetrics;
 
+    /** Listado de asesores de la última versión conocida del agregador. */
+    private volatile AdvisorSnapshot advisorSnapshot;
+
+    /**
+     * Arma el dashboard a partir de los contadores en memoria.
+     * Solo consulta la base de datos para el listado de asesores cuando éste cambió.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DashboardResponse getDashboard() {
-        LocalDateTime startOfDay = LocalDateTime.now().with(LocalTime.MIN);
-        
-        // Summary statistics
-        DashboardSummary summary = calculateSummary(startOfDay);
-        
-        // Queue statistics by type
-        List<QueueStats> queueStats = calculateQueueStats();
-        
-        // Advisor status
-        List<AdvisorResponse> advisors = advisorService.getAllAdvisors();
-        
-        // Alerts
-        List<AlertResponse> alerts = generateAlerts();
-        
-        return new DashboardResponse(
-            summary,
-            queueStats,
-            advisors,
-            alerts,
-            LocalDateTime.now()
-        );
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.DASHBOARD_BUILD);
+        try {
+            DashboardCounts counts = dashboardAggregator.snapshot();
+
+            DashboardResponse response = new DashboardResponse(
+                calculateSummary(counts),
+                calculateQueueStats(counts),
+                getAdvisors(counts.advisorVersion()),
+                generateAlerts(counts),
+                LocalDateTime.now()
+            );
+            timing.success();
+            return response;
+        } catch (RuntimeException e) {
+            timing.failure(e);
+            throw e;
+        }
     }
 
-    private DashboardSummary calculateSummary(LocalDateTime startOfDay) {
-        List<Ticket> todayTickets = ticketRepository.findAll()
-            .stream()
-            .filter(t -> t.getCreatedAt().isAfter(startOfDay))
-            .toList();
-
-        int totalToday = todayTickets.size();
-        int waiting = (int) todayTickets.stream().filter(t -> t.getStatus() == TicketStatus.EN_ESPERA).count();
-        int inProgress = (int) todayTickets.stream().filter(t -> t.getStatus() == TicketStatus.PROXIMO || t.getStatus() == TicketStatus.ATENDIENDO).count();
-        int completed = (int) todayTickets.stream().filter(t -> t.getStatus() == TicketStatus.COMPLETADO).count();
-
-        List<Advisor> allAdvisors = advisorRepository.findAll();
-        int available = (int) allAdvisors.stream().filter(a -> a.getStatus() == AdvisorStatus.AVAILABLE).count();
-        int busy = (int) allAdvisors.stream().filter(a -> a.getStatus() == AdvisorStatus.BUSY).count();
-
-        double avgWaitTime = todayTickets.stream()
-            .filter(t -> t.getEstimatedWaitMinutes() != null)
-            .mapToInt(Ticket::getEstimatedWaitMinutes)
-            .average()
-            .orElse(0.0);
-
-        return new DashboardSummary(totalToday, waiting, inProgress, completed, available, busy, avgWaitTime);
+    private DashboardSummary calculateSummary(DashboardCounts counts) {
+        return new DashboardSummary(
+            (int) counts.totalToday(),
+            (int) counts.todayTickets(TicketStatus.EN_ESPERA),
+            (int) (counts.todayTickets(TicketStatus.PROXIMO) + counts.todayTickets(TicketStatus.ATENDIENDO)),
+            (int) counts.todayTickets(TicketStatus.COMPLETADO),
+            (int) counts.advisors(AdvisorStatus.AVAILABLE),
+            (int) counts.advisors(AdvisorStatus.BUSY),
+            counts.averageWaitToday()
+        );
     }
 
-    private List<QueueStats> calculateQueueStats() {
+    private List<QueueStats> calculateQueueStats(DashboardCounts counts) {
         return Arrays.stream(QueueType.values())
-            .map(this::calculateQueueStat)
+            .map(queueType -> calculateQueueStat(counts, queueType))
             .toList();
     }
 
-    private QueueStats calculateQueueStat(QueueType queueType) {
-        long waiting = ticketRepository.countByStatusAndQueueType(TicketStatus.EN_ESPERA, queueType);
-        long available = advisorRepository.countByStatusAndQueueType(AdvisorStatus.AVAILABLE, queueType);
-        long busy = advisorRepository.countByStatusAndQueueType(AdvisorStatus.BUSY, queueType);
+    private QueueStats calculateQueueStat(DashboardCounts counts, QueueType queueType) {
+        long waiting = counts.activeTickets(queueType, TicketStatus.EN_ESPERA);
+        long available = counts.advisors(queueType, AdvisorStatus.AVAILABLE);
+        long busy = counts.advisors(queueType, AdvisorStatus.BUSY);
 
         int avgWaitMinutes = available > 0 ? 
             (int) Math.ceil((double) waiting / available) * queueType.getAverageTimeMinutes() :
@@ -100,13 +93,22 @@ public class DashboardService {
         );
     }
 
-    private List<AlertResponse> generateAlerts() {
+    private List<AdvisorResponse> getAdvisors(long version) {
+        AdvisorSnapshot current = advisorSnapshot;
+        if (current == null || current.version() != version) {
+            current = new AdvisorSnapshot(version, advisorService.getAllAdvisors());
+            advisorSnapshot = current;
+        }
+        return current.advisors();
+    }
+
+    private List<AlertResponse> generateAlerts(DashboardCounts counts) {
         List<AlertResponse> alerts = new ArrayList<>();
         LocalDateTime now = LocalDateTime.now();
 
         // Check for critical queues (>15 waiting)
         Arrays.stream(QueueType.values()).forEach(queueType -> {
-            long waiting = ticketRepository.countByStatusAndQueueType(TicketStatus.EN_ESPERA, queueType);
+            long waiting = counts.activeTickets(queueType, TicketStatus.EN_ESPERA);
             if (waiting > 15) {
                 alerts.add(new AlertResponse(
                     "CRITICAL_QUEUE",
@@ -118,10 +120,7 @@ public class DashboardService {
         });
 
         // Check for advisors offline
-        long offlineAdvisors = advisorRepository.findAll()
-            .stream()
-            .filter(a -> a.getStatus() == AdvisorStatus.OFFLINE)
-            .count();
+        long offlineAdvisors = counts.advisors(AdvisorStatus.OFFLINE);
 
         if (offlineAdvisors > 0) {
             alerts.add(new AlertResponse(
@@ -134,11 +133,8 @@ public class DashboardService {
 
         // Check for long wait times
         boolean longWaitTimes = Arrays.stream(QueueType.values())
-            .anyMatch(qt -> {
-                long waiting = ticketRepository.countByStatusAndQueueType(TicketStatus.EN_ESPERA, qt);
-                long available = advisorRepository.countByStatusAndQueueType(AdvisorStatus.AVAILABLE, qt);
-                return available == 0 && waiting > 5;
-            });
+            .anyMatch(qt -> counts.advisors(qt, AdvisorStatus.AVAILABLE) == 0
+                && counts.activeTickets(qt, TicketStatus.EN_ESPERA) > 5);
 
         if (longWaitTimes) {
             alerts.add(new AlertResponse(
@@ -151,4 +147,6 @@ public class DashboardService {
 
         return alerts;
     }
-}
\ No newline at end of file
+
+    private record AdvisorSnapshot(long version, List<AdvisorResponse> advisors) {}
+}
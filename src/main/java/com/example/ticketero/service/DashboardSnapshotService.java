@@ -0,0 +1,70 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.dto.response.DashboardResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Dashboard serializado una vez por versión de {@link DashboardAggregator}.
+ * Todas las lecturas de la misma versión comparten el mismo arreglo de bytes y ETag.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardSnapshotService {
+
+    /** Distingue versiones de distintas instancias o reinicios dentro del ETag. */
+    private static final String INSTANCE_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private final DashboardService dashboardService;
+    private final DashboardAggregator dashboardAggregator;
+    private final ObjectMapper objectMapper;
+
+    private volatile DashboardSnapshot current;
+
+    /**
+     * ETag de la versión vigente, sin calcular el dashboard.
+     */
+    public String currentEtag() {
+        return etag(dashboardAggregator.getVersion());
+    }
+
+    public DashboardSnapshot getSnapshot() {
+        long version = dashboardAggregator.getVersion();
+        DashboardSnapshot snapshot = current;
+        if (snapshot != null && snapshot.version() == version) {
+            return snapshot;
+        }
+
+        synchronized (this) {
+            snapshot = current;
+            if (snapshot == null || snapshot.version() != version) {
+                DashboardResponse dashboard = dashboardService.getDashboard();
+                snapshot = new DashboardSnapshot(version, etag(version), dashboard, serialize(dashboard));
+                current = snapshot;
+                log.debug("Dashboard snapshot {} serialized ({} bytes)", snapshot.etag(), snapshot.json().length);
+            }
+            return snapshot;
+        }
+    }
+
+    private String etag(long version) {
+        return "\"" + INSTANCE_ID + "-" + version + "\"";
+    }
+
+    private byte[] serialize(DashboardResponse dashboard) {
+        try {
+            return objectMapper.writeValueAsBytes(dashboard);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize dashboard", e);
+        }
+    }
+
+    /**
+     * Dashboard de una versión dada y su JSON. El arreglo {@code json} no debe modificarse.
+     */
+    public record DashboardSnapshot(long version, String etag, DashboardResponse dashboard, byte[] json) {}
+}
@@ -0,0 +1,219 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.config.DashboardStreamProperties;
+import com.example.ticketero.model.dto.response.AlertResponse;
+import com.example.ticketero.model.dto.response.DashboardResponse;
+import com.example.ticketero.service.DashboardSnapshotService.DashboardSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Difusión del dashboard por Server-Sent Events.
+ * Cada conexión recibe un evento {@code snapshot} al conectarse y luego eventos {@code delta}
+ * con solo las secciones que cambiaron. Los cambios se agrupan por intervalo, se calculan
+ * y serializan una única vez y se envían a todos los suscriptores, por lo que el costo
+ * no depende de la cantidad de pantallas abiertas.
+ *
+ * <p>La escritura a los emisores corre en un hilo propio: un cliente lento no retiene el hilo
+ * compartido de {@code @Scheduled}. Mientras un envío sigue en curso los cambios se acumulan y
+ * salen en el siguiente delta, calculado contra lo último que efectivamente se envió.
+ *
+ * <p>Un suscriptor nuevo recibe como snapshot la base de los deltas (lo último difundido) y se registra
+ * en el mismo hilo de envío, justo después de su snapshot: los deltas encolados antes ya están incluidos
+ * en él y los calculados después le llegan todos, en orden.
+ */
+@Service
+@Slf4j
+public class DashboardStreamService {
+
+    private static final long HEARTBEAT_INTERVAL_MS = 15_000;
+
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final DashboardAggregator dashboardAggregator;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(
+        Thread.ofVirtual().name("dashboard-stream").factory());
+    /** Envíos encolados o en curso en {@link #sender}. */
+    private final AtomicInteger pendingSends = new AtomicInteger();
+
+    /** Lo último difundido: base del próximo delta y snapshot de los suscriptores nuevos. */
+    private DashboardSnapshot lastSnapshot;
+    private volatile long lastVersion = -1;
+    private volatile long lastSentAt = System.currentTimeMillis();
+
+    public DashboardStreamService(DashboardSnapshotService dashboardSnapshotService,
+                                  DashboardAggregator dashboardAggregator,
+                                  ObjectMapper objectMapper,
+                                  DashboardStreamProperties properties) {
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.dashboardAggregator = dashboardAggregator;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = properties.getTimeoutMs();
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        synchronized (this) {
+            // Lleva la base a la versión actual; el delta para los suscriptores existentes queda encolado antes
+            advance();
+            DashboardSnapshot snapshot = lastSnapshot;
+            try {
+                sender.execute(() -> {
+                    try {
+                        emitter.send(SseEmitter.event().name("snapshot").data(snapshot.json(), MediaType.APPLICATION_JSON));
+                        emitters.add(emitter);
+                        log.debug("Dashboard stream subscriber added ({} active)", emitters.size());
+                    } catch (IOException | IllegalStateException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                emitter.completeWithError(e);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Publica a lo sumo {@code dashboard.stream.max-updates-per-second} actualizaciones por segundo,
+     * y solo si los contadores cambiaron desde el último envío. No bloquea: si el envío anterior
+     * no terminó, este ciclo se omite.
+     */
+    @Scheduled(fixedRateString = "#{@dashboardStreamProperties.publishIntervalMs}")
+    public synchronized void publishChanges() {
+        if (emitters.isEmpty() || pendingSends.get() > 0) {
+            return;
+        }
+
+        if (!advance() && System.currentTimeMillis() - lastSentAt > HEARTBEAT_INTERVAL_MS) {
+            broadcast(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Si los contadores cambiaron, toma un snapshot nuevo como base y difunde el delta contra la anterior.
+     * Solo se invoca con el monitor tomado.
+     *
+     * @return {@code true} si la base cambió
+     */
+    private boolean advance() {
+        if (lastSnapshot != null && dashboardAggregator.getVersion() == lastVersion) {
+            return false;
+        }
+        DashboardSnapshot previous = lastSnapshot;
+        DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot();
+        lastSnapshot = snapshot;
+        lastVersion = snapshot.version();
+        if (previous != null) {
+            Map<String, Object> delta = delta(previous.dashboard(), snapshot.dashboard());
+            if (delta.size() > 1) {
+                broadcast(SseEmitter.event().name("delta").data(toJson(delta), MediaType.APPLICATION_JSON));
+            }
+        }
+        return true;
+    }
+
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    private Map<String, Object> delta(DashboardResponse previous, DashboardResponse current) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        delta.put("lastUpdated", current.lastUpdated());
+        if (!Objects.equals(previous.summary(), current.summary())) {
+            delta.put("summary", current.summary());
+        }
+        if (!Objects.equals(previous.queueStats(), current.queueStats())) {
+            delta.put("queueStats", current.queueStats());
+        }
+        if (!Objects.equals(previous.advisors(), current.advisors())) {
+            delta.put("advisors", current.advisors());
+        }
+        if (!sameAlerts(previous.alerts(), current.alerts())) {
+            delta.put("alerts", current.alerts());
+        }
+        return delta;
+    }
+
+    /**
+     * Compara alertas ignorando su timestamp, que se regenera en cada cálculo.
+     */
+    private boolean sameAlerts(List<AlertResponse> previous, List<AlertResponse> current) {
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            AlertResponse a = previous.get(i);
+            AlertResponse b = current.get(i);
+            if (!a.type().equals(b.type()) || !a.message().equals(b.message()) || !a.severity().equals(b.severity())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        pendingSends.incrementAndGet();
+        lastSentAt = System.currentTimeMillis();
+        try {
+            sender.execute(() -> {
+                try {
+                    send(event);
+                } finally {
+                    pendingSends.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingSends.decrementAndGet();
+            log.debug("Dashboard stream sender is shut down, dropping event");
+        }
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+                log.debug("Dashboard stream subscriber dropped: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize dashboard", e);
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class NotificationService {
             .findFirst()
             .ifPresent(mensaje -> {
                 // Actualizar fecha para envío inmediato
-                mensaje.setSentAt(LocalDateTime.now());
+                mensaje.setScheduledAt(LocalDateTime.now());
                 messageRepository.save(mensaje);
                 
                 log.info("Pre-aviso message scheduled for immediate sending for ticket: {}", 
@@ -56,7 +56,7 @@ public class NotificationService {
             .findFirst()
             .ifPresent(mensaje -> {
                 // Actualizar fecha para envío inmediato
-                mensaje.setSentAt(LocalDateTime.now());
+                mensaje.setScheduledAt(LocalDateTime.now());
                 messageRepository.save(mensaje);
                 
                 log.info("Active turn message scheduled for immediate sending for ticket: {}", 
@@ -73,7 +73,7 @@ public class NotificationService {
             String chatId = telegramService.extractChatId(ticket.getCustomerPhone());
             String texto = telegramService.getMessageText(plantilla, ticket);
             
-            String telegramMessageId = telegramService.sendMessage(chatId, texto);
+            String telegramMessageId = telegramService.sendMessage(chatId, texto, plantilla, ticket.getTicketNumber());
             
             if (telegramMessageId != null) {
                 log.info("Immediate message sent successfully for ticket: {}, template: {}", 
@@ -0,0 +1,164 @@
+package com.example.ticketero.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Crea por adelantado las particiones mensuales de las tablas particionadas por rango de fecha
+ * y separa las antiguas de las tablas con retención por partición.
+ * Solo aplica en PostgreSQL; con otras bases (tests, H2) no hace nada.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private static final Set<String> MONTHLY_TABLES = Set.of("audit_events", "tickets");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    /**
+     * Tablas cuyas particiones antiguas se pueden separar, con las consultas que detectan filas aún en uso
+     * ({@code %s} es la partición): una partición con alguna de esas filas no se separa.
+     * En tickets, además de los activos, cuentan los referenciados desde messages y advisors,
+     * cuyas FK se eliminaron al particionar (V13).
+     */
+    private static final Map<String, List<InUseCheck>> DETACHABLE_TABLES = Map.of(
+        "tickets", List.of(
+            new InUseCheck("active tickets", "SELECT 1 FROM %s WHERE status IN ('EN_ESPERA', 'PROXIMO', 'ATENDIENDO')"),
+            new InUseCheck("messages", "SELECT 1 FROM messages m JOIN %s t ON t.id = m.ticket_id"),
+            new InUseCheck("advisors.current_ticket_id",
+                "SELECT 1 FROM advisors a JOIN %s t ON t.id = a.current_ticket_id")
+        )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Asegura que existan las particiones del mes actual y de los {@code monthsAhead} siguientes.
+     *
+     * @return Particiones creadas
+     */
+    public int ensureMonthlyPartitions(String table, int monthsAhead) {
+        if (!MONTHLY_TABLES.contains(table)) {
+            throw new IllegalArgumentException("Table is not partitioned by month: " + table);
+        }
+        if (!isPostgres()) {
+            return 0;
+        }
+
+        int created = 0;
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++, month = month.plusMonths(1)) {
+            String partition = table + "_" + month.format(MONTH_SUFFIX);
+            if (partitionExists(partition)) {
+                continue;
+            }
+            LocalDate from = month.atDay(1);
+            LocalDate to = month.plusMonths(1).atDay(1);
+            // IF NOT EXISTS: otro nodo puede crearla entre la comprobación y este CREATE
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            log.info("Created partition {} [{}, {})", partition, from, to);
+            created++;
+        }
+        return created;
+    }
+
+    /**
+     * Separa las particiones mensuales anteriores a los últimos {@code retainMonths} meses (sin contar el actual).
+     * La partición separada queda como tabla independiente (archivo consultable) salvo que {@code drop} sea true.
+     *
+     * @return Particiones separadas
+     */
+    public int detachPartitionsOlderThan(String table, int retainMonths, boolean drop) {
+        if (!DETACHABLE_TABLES.containsKey(table)) {
+            throw new IllegalArgumentException("Table does not support partition detaching: " + table);
+        }
+        if (!isPostgres()) {
+            return 0;
+        }
+
+        YearMonth oldestRetained = YearMonth.now().minusMonths(retainMonths);
+        int detached = 0;
+        for (String partition : listPartitions(table)) {
+            YearMonth month = parseMonth(table, partition);
+            if (month == null || !month.isBefore(oldestRetained)) {
+                continue;
+            }
+            String inUse = inUseBy(table, partition);
+            if (inUse != null) {
+                log.warn("Partition {} still referenced by {}, not detaching", partition, inUse);
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            if (drop) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            log.info("Detached partition {}{}", partition, drop ? " and dropped it" : "");
+            detached++;
+        }
+        return detached;
+    }
+
+    /**
+     * Primera razón por la que la partición sigue en uso, o null si se puede separar.
+     */
+    String inUseBy(String table, String partition) {
+        for (InUseCheck check : DETACHABLE_TABLES.get(table)) {
+            Boolean inUse = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (" + String.format(check.sql(), partition) + ")", Boolean.class);
+            if (Boolean.TRUE.equals(inUse)) {
+                return check.reason();
+            }
+        }
+        return null;
+    }
+
+    private List<String> listPartitions(String table) {
+        return jdbcTemplate.queryForList("""
+            SELECT child.relname
+            FROM pg_inherits
+            JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE parent.oid = to_regclass(?)
+            ORDER BY child.relname
+            """, String.class, table);
+    }
+
+    /** Mes de una partición {@code <tabla>_yYYYYmMM}, o null si no sigue el formato (p. ej., DEFAULT). */
+    private static YearMonth parseMonth(String table, String partition) {
+        String prefix = table + "_";
+        if (!partition.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(prefix.length()), MONTH_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private boolean partitionExists(String partition) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    private record InUseCheck(String reason, String sql) {}
+}
@@ -0,0 +1,187 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.datasource.DataSourceRouting;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.repository.projection.WaitingTicket;
+import com.example.ticketero.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Señales por cola para autoescalado y alertas:
+ * <ul>
+ *   <li>{@code ticketero.queue.waiting}: tickets en espera</li>
+ *   <li>{@code ticketero.queue.oldest.wait}: segundos que lleva esperando el ticket más antiguo</li>
+ *   <li>{@code ticketero.queue.advisors}: asesores por estado</li>
+ *   <li>{@code ticketero.queue.arrivals} y {@code ticketero.queue.served}: contadores; la tasa se obtiene con rate()</li>
+ * </ul>
+ * Los gauges leen estado en memoria alimentado en cada transición (tras el commit), así que un scrape
+ * no consulta la base. Por cola se mantiene el conjunto de tickets en espera ordenado por llegada; los
+ * asesores vienen de {@link DashboardAggregator}.
+ * <p>
+ * Las transiciones hechas en otros nodos solo llegan con la reconciliación periódica
+ * ({@code queue-monitor.reconcile-interval-ms}), que relee la cola desde el primario. Mientras dura,
+ * las transiciones locales se anotan y se vuelven a aplicar sobre lo leído antes de publicarlo:
+ * una salida de la cola confirmada después de la lectura no reaparece y una llegada no se pierde.
+ */
+@Component
+@Slf4j
+public class QueueMonitor {
+
+    private static final Comparator<WaitingTicket> BY_ARRIVAL =
+        Comparator.comparing(WaitingTicket::createdAt).thenComparing(WaitingTicket::id);
+
+    private final TicketRepository ticketRepository;
+    private final Map<QueueType, Counter> arrivals = new EnumMap<>(QueueType.class);
+    private final Map<QueueType, Counter> served = new EnumMap<>(QueueType.class);
+
+    /** Se reemplaza en cada reconciliación; las escrituras van bajo el monitor de esta instancia. */
+    private volatile Map<QueueType, NavigableSet<WaitingTicket>> waiting = emptyQueues();
+
+    /** Transiciones aplicadas mientras hay una reconciliación en curso; {@code null} fuera de ella. */
+    private List<QueueTransition> pendingTransitions;
+
+    public QueueMonitor(TicketRepository ticketRepository,
+                        DashboardAggregator dashboardAggregator,
+                        MeterRegistry meterRegistry) {
+        this.ticketRepository = ticketRepository;
+        for (QueueType queueType : QueueType.values()) {
+            String queue = queueType.name();
+            Gauge.builder("ticketero.queue.waiting", this, monitor -> monitor.waiting(queueType))
+                .tag("queue_type", queue)
+                .register(meterRegistry);
+            Gauge.builder("ticketero.queue.oldest.wait", this, monitor -> monitor.oldestWaitSeconds(queueType))
+                .tag("queue_type", queue)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+            for (AdvisorStatus status : AdvisorStatus.values()) {
+                Gauge.builder("ticketero.queue.advisors", dashboardAggregator,
+                        aggregator -> aggregator.advisors(queueType, status))
+                    .tag("queue_type", queue)
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            }
+            arrivals.put(queueType, meterRegistry.counter("ticketero.queue.arrivals", "queue_type", queue));
+            served.put(queueType, meterRegistry.counter("ticketero.queue.served", "queue_type", queue));
+        }
+    }
+
+    public void onTicketCreated(Ticket ticket) {
+        WaitingTicket entry = new WaitingTicket(ticket.getId(), ticket.getQueueType(), ticket.getCreatedAt());
+        TransactionHooks.afterCommit(() -> {
+            apply(new QueueTransition(entry, true));
+            arrivals.get(entry.queueType()).increment();
+        });
+    }
+
+    public void onTicketStatusChanged(Ticket ticket, TicketStatus from, TicketStatus to) {
+        WaitingTicket entry = new WaitingTicket(ticket.getId(), ticket.getQueueType(), ticket.getCreatedAt());
+        TransactionHooks.afterCommit(() -> {
+            if (from == TicketStatus.EN_ESPERA && to != TicketStatus.EN_ESPERA) {
+                apply(new QueueTransition(entry, false));
+            }
+            if (to == TicketStatus.COMPLETADO) {
+                served.get(entry.queueType()).increment();
+            }
+        });
+    }
+
+    public long waiting(QueueType queueType) {
+        return waiting.get(queueType).size();
+    }
+
+    /**
+     * Segundos de espera del ticket más antiguo de la cola, o 0 si está vacía.
+     */
+    public double oldestWaitSeconds(QueueType queueType) {
+        // El iterador es débilmente consistente: no falla si la cola se vacía en paralelo
+        Iterator<WaitingTicket> queue = waiting.get(queueType).iterator();
+        if (!queue.hasNext()) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(queue.next().createdAt(), LocalDateTime.now()).toMillis() / 1000.0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Reconstruye las colas desde el primario (una réplica atrasada devolvería tickets que ya salieron)
+     * y les aplica las transiciones locales confirmadas mientras se leía.
+     */
+    @Scheduled(fixedDelayString = "${queue-monitor.reconcile-interval-ms:15000}",
+               initialDelayString = "${queue-monitor.reconcile-interval-ms:15000}")
+    public void reconcile() {
+        synchronized (this) {
+            pendingTransitions = new ArrayList<>();
+        }
+        Map<QueueType, NavigableSet<WaitingTicket>> rebuilt = emptyQueues();
+        try {
+            for (WaitingTicket ticket : DataSourceRouting.onPrimary(ticketRepository::findWaitingTickets)) {
+                rebuilt.get(ticket.queueType()).add(ticket);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingTransitions = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            // Reaplicar es idempotente para las transiciones que la lectura ya incluía
+            pendingTransitions.forEach(transition -> transition.applyTo(rebuilt));
+            pendingTransitions = null;
+            waiting = rebuilt;
+        }
+        log.debug("Queue monitor reconciled");
+    }
+
+    private synchronized void apply(QueueTransition transition) {
+        transition.applyTo(waiting);
+        if (pendingTransitions != null) {
+            pendingTransitions.add(transition);
+        }
+    }
+
+    private static Map<QueueType, NavigableSet<WaitingTicket>> emptyQueues() {
+        Map<QueueType, NavigableSet<WaitingTicket>> queues = new EnumMap<>(QueueType.class);
+        for (QueueType queueType : QueueType.values()) {
+            queues.put(queueType, new ConcurrentSkipListSet<>(BY_ARRIVAL));
+        }
+        return queues;
+    }
+
+    private record QueueTransition(WaitingTicket ticket, boolean arrived) {
+
+        void applyTo(Map<QueueType, NavigableSet<WaitingTicket>> queues) {
+            NavigableSet<WaitingTicket> queue = queues.get(ticket.queueType());
+            if (arrived) {
+                queue.add(ticket);
+            } else {
+                queue.remove(ticket);
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.config.RetentionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Purga por lotes de tablas de crecimiento continuo.
+ * Recorre solo las filas vencidas en orden (created_at, id) (keyset con LIMIT) y confirma cada lote
+ * en su propia transacción, evitando bloqueos largos y picos de WAL.
+ * No pagina por id: con secuencias pooled-lo cada nodo reserva su propio bloque y los ids no siguen
+ * el orden de creación.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionService {
+
+    private static final Set<String> PURGEABLE_TABLES = Set.of("messages", "audit_events");
+    private static final DateTimeFormatter FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentionProperties retentionProperties;
+    private final MeterRegistry meterRegistry;
+
+    public void purgeAll() {
+        if (!retentionProperties.isEnabled()) {
+            log.debug("Retention disabled, skipping purge");
+            return;
+        }
+
+        retentionProperties.getPolicies().forEach(this::purge);
+    }
+
+    /**
+     * Purga una tabla según su política.
+     *
+     * @return Filas eliminadas
+     */
+    public long purge(String table, RetentionProperties.Policy policy) {
+        if (!PURGEABLE_TABLES.contains(table)) {
+            throw new IllegalArgumentException("Table not eligible for retention: " + table);
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(policy.getRetentionDays());
+        Counter deleted = meterRegistry.counter("ticketero.retention.rows.deleted", "table", table);
+        Counter batches = meterRegistry.counter("ticketero.retention.batches", "table", table);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        log.info("Retention purge started for {} (cutoff: {}, batch size: {})",
+            table, cutoff, policy.getBatchSize());
+
+        Position last = null;
+        long total = 0;
+        boolean lastBatch = false;
+
+        try (ArchiveWriter archive = policy.isArchive() ? openArchive(table) : null) {
+            while (!lastBatch) {
+                Batch batch = nextBatch(table, last, cutoff, policy.getBatchSize());
+                lastBatch = batch.ids().size() < policy.getBatchSize();
+
+                if (batch.ids().isEmpty()) {
+                    break;
+                }
+
+                long removed = deleteBatch(table, batch.ids(), archive);
+                last = batch.last();
+                total += removed;
+                deleted.increment(removed);
+                batches.increment();
+
+                log.debug("Retention purge of {}: {} rows so far (last: {} / {})",
+                    table, total, last.createdAt(), last.id());
+                pause(policy.getPauseMillis());
+            }
+        }
+
+        sample.stop(meterRegistry.timer("ticketero.retention.duration", "table", table));
+        log.info("Retention purge finished for {}: {} rows deleted", table, total);
+        return total;
+    }
+
+    /**
+     * Lee el siguiente tramo de filas vencidas posteriores a {@code after} en orden (created_at, id).
+     * El filtro por corte va en la consulta, así que una fila reciente nunca detiene la purga.
+     */
+    private Batch nextBatch(String table, Position after, LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = new ArrayList<>(batchSize);
+        Position[] last = {null};
+        RowCallbackHandler collect = rs -> {
+            ids.add(rs.getLong("id"));
+            last[0] = new Position(rs.getTimestamp("created_at"), rs.getLong("id"));
+        };
+
+        if (after == null) {
+            jdbcTemplate.query(
+                "SELECT id, created_at FROM " + table + " WHERE created_at < ? ORDER BY created_at, id LIMIT ?",
+                collect, Timestamp.valueOf(cutoff), batchSize);
+        } else {
+            jdbcTemplate.query(
+                "SELECT id, created_at FROM " + table
+                    + " WHERE created_at < ? AND (created_at > ? OR (created_at = ? AND id > ?))"
+                    + " ORDER BY created_at, id LIMIT ?",
+                collect, Timestamp.valueOf(cutoff), after.createdAt(), after.createdAt(), after.id(), batchSize);
+        }
+
+        return new Batch(ids, last[0]);
+    }
+
+    private long deleteBatch(String table, List<Long> ids, ArchiveWriter archive) {
+        Long[] idArray = ids.toArray(Long[]::new);
+        Integer removed = transactionTemplate.execute(status -> {
+            if (archive != null) {
+                archive.write(table, idArray);
+            }
+            return jdbcTemplate.update(
+                con -> {
+                    var ps = con.prepareStatement("DELETE FROM " + table + " WHERE id = ANY (?)");
+                    ps.setArray(1, con.createArrayOf("bigint", idArray));
+                    return ps;
+                }
+            );
+        });
+        return removed != null ? removed : 0;
+    }
+
+    private ArchiveWriter openArchive(String table) {
+        try {
+            Path dir = Paths.get(retentionProperties.getArchiveDir());
+            Files.createDirectories(dir);
+            Path file = dir.resolve(table + "-" + LocalDateTime.now().format(FILE_SUFFIX) + ".csv.gz");
+            log.info("Archiving purged rows of {} to {}", table, file);
+            return new ArchiveWriter(new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open retention archive for " + table, e);
+        }
+    }
+
+    private void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Última fila leída; el timestamp se reenvía tal cual para no perder precisión. */
+    private record Position(Timestamp createdAt, long id) {}
+
+    private record Batch(List<Long> ids, Position last) {}
+
+    /**
+     * Escribe las filas a purgar como CSV comprimido, con encabezado en el primer lote.
+     */
+    private class ArchiveWriter implements AutoCloseable {
+
+        private final Writer writer;
+        private boolean headerWritten;
+
+        ArchiveWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void write(String table, Long[] ids) {
+            jdbcTemplate.query(
+                con -> {
+                    var ps = con.prepareStatement("SELECT * FROM " + table + " WHERE id = ANY (?) ORDER BY id");
+                    ps.setArray(1, con.createArrayOf("bigint", ids));
+                    return ps;
+                },
+                rs -> {
+                    try {
+                        ResultSetMetaData meta = rs.getMetaData();
+                        int columns = meta.getColumnCount();
+                        if (!headerWritten) {
+                            List<String> names = new ArrayList<>(columns);
+                            for (int i = 1; i <= columns; i++) {
+                                names.add(meta.getColumnName(i));
+                            }
+                            writer.write(String.join(",", names));
+                            writer.write('\n');
+                            headerWritten = true;
+                        }
+                        for (int i = 1; i <= columns; i++) {
+                            if (i > 1) {
+                                writer.write(',');
+                            }
+                            writer.write(csv(rs.getObject(i)));
+                        }
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            );
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private String csv(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value instanceof Timestamp ts ? ts.toLocalDateTime().toString() : value.toString();
+            if (text.contains(",") || text.contains("\"") || text.contains("\n")) {
+                return "\"" + text.replace("\"", "\"\"") + "\"";
+            }
+            return text;
+        }
+
+        @Override
+        public void close() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Error closing retention archive: {}", e.getMessage());
+            }
+        }
+    }
+}
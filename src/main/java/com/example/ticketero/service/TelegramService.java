@@ -1,149 +1,94 @@
 package com.example.ticketero.service;
 
-import com.example.ticketero.config.TelegramConfig;
+import com.example.ticketero.channel.NotificationChannel;
+import com.example.ticketero.exception.InvalidMessageParamsException;
+import com.example.ticketero.jfr.TelegramSendEvent;
+import com.example.ticketero.metrics.LifecycleMetrics;
+import com.example.ticketero.metrics.LifecycleOperation;
+import com.example.ticketero.metrics.LifecycleTiming;
 import com.example.ticketero.model.entity.Message;
 import com.example.ticketero.model.entity.Ticket;
-import com.example.ticketero.model.enums.MessageTemplate;
+import com.example.ticketero.model.enums.MessageStatus;
 import com.example.ticketero.model.enums.MessageType;
 import com.example.ticketero.repository.MessageRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Service
 @Slf4j
 @Transactional(readOnly = true)
 public class TelegramService {
 
-    private final TelegramConfig telegramConfig;
-    private final RestTemplate restTemplate;
+    private static final String PARAM_SEPARATOR = "|";
+
+    private final NotificationChannel notificationChannel;
     private final MessageRepository messageRepository;
     private final String telegramChatId;
+    private final LifecycleMetrics lifecycleMetrics;
     
-    public TelegramService(TelegramConfig telegramConfig, RestTemplate restTemplate, 
+    public TelegramService(NotificationChannel notificationChannel,
                           MessageRepository messageRepository, 
-                          @Value("${TELEGRAM_CHAT_ID}") String telegramChatId) {
-        this.telegramConfig = telegramConfig;
-        this.restTemplate = restTemplate;
+                          @Value("${TELEGRAM_CHAT_ID}") String telegramChatId,
+                          LifecycleMetrics lifecycleMetrics) {
+        this.notificationChannel = notificationChannel;
         this.messageRepository = messageRepository;
         this.telegramChatId = telegramChatId;
+        this.lifecycleMetrics = lifecycleMetrics;
     }
 
     @Transactional
     public void sendConfirmationMessage(Ticket ticket) {
-        String message = """
-            ✅ Ticket confirmado
-            
-            📋 Número: %s
-            🏦 Cola: %s
-            📍 Posición: #%d
-            ⏱️ Tiempo estimado: %d minutos
-            
-            Puedes salir de la sucursal. Te avisaremos cuando sea tu turno.
-            """.formatted(
-                ticket.getTicketNumber(),
-                getQueueDisplayName(ticket.getQueueType().name()),
-                ticket.getQueuePosition(),
-                ticket.getEstimatedWaitMinutes()
-            );
-
-        sendMessage(ticket, MessageType.CONFIRMATION, message);
+        sendMessage(ticket, MessageType.CONFIRMATION);
     }
 
     @Transactional
     public void sendPreNoticeMessage(Ticket ticket) {
-        String message = """
-            ⏰ ¡Pronto será tu turno!
-            
-            📋 Ticket: %s
-            📍 Quedan 3 personas adelante
-            
-            Por favor acércate a la sucursal.
-            """.formatted(ticket.getTicketNumber());
-
-        sendMessage(ticket, MessageType.PRE_NOTICE, message);
+        sendMessage(ticket, MessageType.PRE_NOTICE);
     }
 
     @Transactional
     public void sendTurnActiveMessage(Ticket ticket) {
-        String message = """
-            🔔 ¡ES TU TURNO!
-            
-            📋 Ticket: %s
-            👤 Asesor: %s
-            🏢 Módulo: %d
-            
-            Preséntate en el módulo indicado.
-            """.formatted(
-                ticket.getTicketNumber(),
-                ticket.getAdvisor().getName(),
-                ticket.getAdvisor().getModuleNumber()
-            );
-
-        sendMessage(ticket, MessageType.TURN_ACTIVE, message);
+        sendMessage(ticket, MessageType.TURN_ACTIVE);
     }
 
-    private void sendMessage(Ticket ticket, MessageType messageType, String content) {
+    private void sendMessage(Ticket ticket, MessageType messageType) {
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.NOTIFICATION_SEND).dimension(messageType);
         if (ticket.getCustomerPhone() == null || ticket.getCustomerPhone().isEmpty()) {
             log.warn("No phone number for ticket {}, skipping message", ticket.getTicketNumber());
+            timing.stop("skipped");
             return;
         }
 
         Message message = Message.builder()
             .ticket(ticket)
             .messageType(messageType)
-            .content(content)
+            .params(buildParams(messageType, ticket))
             .build();
 
         Message saved = messageRepository.save(message);
 
+        TelegramSendEvent event = new TelegramSendEvent();
+        event.begin();
         try {
             log.debug("Using chat_id: {} for ticket {}", telegramChatId, ticket.getTicketNumber());
-            sendToTelegram(telegramChatId, content);
+            notificationChannel.send(telegramChatId, renderMessage(messageType, ticket, message.getParams()));
+            event.emit(messageType.name(), ticket.getTicketNumber(), true);
             saved.setSentAt(LocalDateTime.now());
-            saved.setDeliveryStatus("SENT");
+            saved.setStatus(MessageStatus.ENVIADO);
+            timing.success();
             log.info("Message sent successfully for ticket {}", ticket.getTicketNumber());
         } catch (Exception e) {
-            saved.setDeliveryStatus("FAILED");
+            event.emit(messageType.name(), ticket.getTicketNumber(), false);
+            saved.setStatus(MessageStatus.FALLIDO);
+            timing.stop("failed");
             log.error("Failed to send message for ticket {}: {}", ticket.getTicketNumber(), e.getMessage());
         }
     }
 
-    private void sendToTelegram(String chatId, String text) {
-        if (telegramConfig.getBotToken() == null || telegramConfig.getBotToken().isEmpty()) {
-            log.warn("Telegram bot token not configured, simulating message send");
-            return;
-        }
-
-        String url = telegramConfig.getFullApiUrl() + "/sendMessage";
-        
-        Map<String, Object> payload = Map.of(
-            "chat_id", chatId,
-            "text", text,
-            "parse_mode", "HTML"
-        );
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(payload, headers);
-
-        ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-        
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new RuntimeException("Telegram API error: " + response.getStatusCode());
-        }
-    }
-
     private String getQueueDisplayName(String queueType) {
         return switch (queueType) {
             case "CAJA" -> "Caja";
@@ -160,37 +105,131 @@ public class TelegramService {
         return telegramChatId;
     }
 
-
+    /**
+     * Parámetros variables de la plantilla, capturados al momento de programar el mensaje.
+     * Número de ticket y cola se obtienen del ticket al renderizar, por lo que no se duplican aquí.
+     * Devuelve null si el ticket aún no tiene los datos (sin posición o sin asesor).
+     */
+    public String buildParams(MessageType template, Ticket ticket) {
+        return switch (template) {
+            case CONFIRMATION -> ticket.getQueuePosition() == null || ticket.getEstimatedWaitMinutes() == null ? null
+                : ticket.getQueuePosition() + PARAM_SEPARATOR + ticket.getEstimatedWaitMinutes();
+            case PRE_NOTICE -> null;
+            case TURN_ACTIVE -> ticket.getAdvisor() == null ? null
+                : ticket.getAdvisor().getModuleNumber() + PARAM_SEPARATOR + ticket.getAdvisor().getName();
+        };
+    }
 
     public String getMessageText(MessageType template, Ticket ticket) {
+        return renderMessage(template, ticket, buildParams(template, ticket));
+    }
+
+    public String getMessageText(Message message) {
+        return renderMessage(message.getMessageType(), message.getTicket(), message.getParams());
+    }
+
+    private String renderMessage(MessageType template, Ticket ticket, String params) {
+        String[] values = resolveParams(template, ticket, params);
         return switch (template) {
-            case CONFIRMATION -> String.format(
-                "✅ Ticket confirmado\n\n📋 Número: %s\n🏦 Cola: %s\n📍 Posición: #%d\n⏱️ Tiempo estimado: %d minutos",
-                ticket.getTicketNumber(),
-                getQueueDisplayName(ticket.getQueueType().name()),
-                ticket.getQueuePosition(),
-                ticket.getEstimatedWaitMinutes()
-            );
-            case PRE_NOTICE -> String.format(
-                "⏰ ¡Pronto será tu turno!\n\n📋 Ticket: %s\n📍 Quedan 3 personas adelante",
-                ticket.getTicketNumber()
-            );
-            case TURN_ACTIVE -> String.format(
-                "🔔 ¡ES TU TURNO!\n\n📋 Ticket: %s\n👤 Asesor: %s\n🏢 Módulo: %d",
-                ticket.getTicketNumber(),
-                ticket.getAdvisor().getName(),
-                ticket.getAdvisor().getModuleNumber()
-            );
+            case CONFIRMATION -> """
+                ✅ Ticket confirmado
+                
+                📋 Número: %s
+                🏦 Cola: %s
+                📍 Posición: #%s
+                ⏱️ Tiempo estimado: %s minutos
+                
+                Puedes salir de la sucursal. Te avisaremos cuando sea tu turno.
+                """.formatted(
+                    ticket.getTicketNumber(),
+                    getQueueDisplayName(ticket.getQueueType().name()),
+                    values[0],
+                    values[1]
+                );
+            case PRE_NOTICE -> """
+                ⏰ ¡Pronto será tu turno!
+                
+                📋 Ticket: %s
+                📍 Quedan 3 personas adelante
+                
+                Por favor acércate a la sucursal.
+                """.formatted(ticket.getTicketNumber());
+            case TURN_ACTIVE -> """
+                🔔 ¡ES TU TURNO!
+                
+                📋 Ticket: %s
+                👤 Asesor: %s
+                🏢 Módulo: %s
+                
+                Preséntate en el módulo indicado.
+                """.formatted(
+                    ticket.getTicketNumber(),
+                    values[1],
+                    values[0]
+                );
+        };
+    }
+
+    /**
+     * Valores de la plantilla. Los params migrados por V6 salen de un LEFT JOIN y pueden venir nulos
+     * o incompletos; en ese caso se reconstruyen desde el estado actual del ticket.
+     *
+     * @throws InvalidMessageParamsException si tampoco el ticket tiene los datos
+     */
+    private String[] resolveParams(MessageType template, Ticket ticket, String params) {
+        int required = switch (template) {
+            case CONFIRMATION, TURN_ACTIVE -> 2;
+            case PRE_NOTICE -> 0;
         };
+        String[] values = split(params);
+        if (values.length >= required) {
+            return values;
+        }
+        String rebuilt = buildParams(template, ticket);
+        values = split(rebuilt);
+        if (values.length < required) {
+            throw new InvalidMessageParamsException(ticket.getTicketNumber(), template, params);
+        }
+        log.warn("Message {} for ticket {} had incomplete params '{}', rebuilt from ticket",
+            template, ticket.getTicketNumber(), params);
+        return values;
+    }
+
+    private static String[] split(String params) {
+        if (params == null || params.isEmpty()) {
+            return new String[0];
+        }
+        String[] values = params.split("\\" + PARAM_SEPARATOR, 2);
+        for (String value : values) {
+            if (value.isEmpty() || value.equals("null")) {
+                return new String[0];
+            }
+        }
+        return values;
     }
 
-    public String sendMessage(String chatId, String text) {
+    /**
+     * Envía un texto ya renderizado; el tipo y el número de ticket solo identifican el envío
+     * en JFR y en el timer {@code ticketero.notification.send}.
+     */
+    public String sendMessage(String chatId, String text, MessageType messageType, String ticketNumber) {
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.NOTIFICATION_SEND).dimension(messageType);
+        TelegramSendEvent event = new TelegramSendEvent();
+        event.begin();
         try {
-            sendToTelegram(chatId, text);
-            return "msg_" + System.currentTimeMillis(); // Simular message ID
+            String messageId = notificationChannel.send(chatId, text);
+            event.emit(messageType.name(), ticketNumber, messageId != null);
+            if (messageId != null) {
+                timing.success();
+            } else {
+                timing.stop("failed");
+            }
+            return messageId;
         } catch (Exception e) {
+            event.emit(messageType.name(), ticketNumber, false);
+            timing.stop("failed");
             log.error("Failed to send message: {}", e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,10 @@
 package com.example.ticketero.service;
 
+import com.example.ticketero.datasource.ReplicaReads;
+import com.example.ticketero.jfr.TicketCreatedEvent;
+import com.example.ticketero.metrics.LifecycleMetrics;
+import com.example.ticketero.metrics.LifecycleOperation;
+import com.example.ticketero.metrics.LifecycleTiming;
 import com.example.ticketero.model.dto.request.CreateTicketRequest;
 import com.example.ticketero.model.dto.response.QueuePositionResponse;
 import com.example.ticketero.model.dto.response.TicketResponse;
@@ -9,13 +14,14 @@ import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.model.enums.TicketStatus;
 import com.example.ticketero.repository.AdvisorRepository;
 import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.repository.projection.TicketView;
+import com.example.ticketero.util.TicketNumberGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,12 +35,32 @@ public class TicketService {
     private final AdvisorRepository advisorRepository;
     private final TelegramService telegramService;
     private final AuditService auditService;
+    private final DashboardAggregator dashboardAggregator;
+    private final QueueMonitor queueMonitor;
+    private final ReplicaReads replicaReads;
+    private final LifecycleMetrics lifecycleMetrics;
+    private final TicketNumberGenerator ticketNumberGenerator;
 
     @Transactional
     public TicketResponse createTicket(CreateTicketRequest request) {
+        TicketCreatedEvent event = new TicketCreatedEvent();
+        event.begin();
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.TICKET_CREATE).dimension(request.queueType());
+        try {
+            TicketResponse response = create(request);
+            timing.success();
+            event.emit(response.ticketNumber(), response.queueType(), response.queuePosition());
+            return response;
+        } catch (RuntimeException e) {
+            timing.failure(e);
+            throw e;
+        }
+    }
+
+    private TicketResponse create(CreateTicketRequest request) {
         log.info("Creating ticket for RUT: {}, Queue: {}", request.customerRut(), request.queueType());
 
-        String ticketNumber = generateTicketNumber(request.queueType());
+        String ticketNumber = ticketNumberGenerator.generateNextNumber(request.queueType());
         
         Ticket ticket = Ticket.builder()
             .ticketNumber(ticketNumber)
@@ -53,6 +79,9 @@ public class TicketService {
         
         // Log audit event (RF-008)
         auditService.logTicketCreated(saved.getId(), saved.getTicketNumber(), saved.getCustomerRut());
+        dashboardAggregator.onTicketCreated(saved);
+        queueMonitor.onTicketCreated(saved);
+        replicaReads.recordWrite(saved.getUuid(), saved.getTicketNumber());
         
         log.info("Ticket created: {} at position {}", saved.getTicketNumber(), saved.getQueuePosition());
         
@@ -60,21 +89,25 @@ public class TicketService {
     }
 
     public Optional<TicketResponse> findByUuid(UUID uuid) {
-        return ticketRepository.findByUuid(uuid)
-            .map(this::toResponse);
+        return replicaReads.find(uuid, () -> ticketRepository.findViewByUuid(uuid)
+            .map(this::toResponse));
     }
 
     public Optional<QueuePositionResponse> getQueuePosition(String ticketNumber) {
-        return ticketRepository.findByTicketNumber(ticketNumber)
-            .map(ticket -> {
-                updateQueuePosition(ticket);
-                return new QueuePositionResponse(
-                    ticket.getTicketNumber(),
-                    ticket.getQueuePosition(),
-                    ticket.getEstimatedWaitMinutes(),
-                    ticket.getStatus().name()
-                );
-            });
+        LifecycleTiming timing = lifecycleMetrics.start(LifecycleOperation.TICKET_POSITION);
+        try {
+            Optional<QueuePositionResponse> position = replicaReads.find(ticketNumber, () -> ticketRepository
+                .findViewByTicketNumber(ticketNumber)
+                .map(ticket -> {
+                    timing.dimension(ticket.queueType());
+                    return toQueuePosition(ticket);
+                }));
+            timing.stop(position.isPresent() ? "success" : "not_found");
+            return position;
+        } catch (RuntimeException e) {
+            timing.failure(e);
+            throw e;
+        }
     }
 
     private void updateQueuePosition(Ticket ticket) {
@@ -82,24 +115,51 @@ public class TicketService {
             return;
         }
 
-        long position = ticketRepository.countTicketsAheadInQueue(
-            TicketStatus.EN_ESPERA, 
-            ticket.getQueueType(), 
-            ticket.getId()
-        ) + 1;
+        int position = positionInQueue(ticket.getQueueType(), ticket.getCreatedAt());
+
+        ticket.setQueuePosition(position);
+        ticket.setEstimatedWaitMinutes(estimateWait(position, ticket.getQueueType()));
+    }
+
+    /**
+     * Solo los tickets en espera recalculan su posición; el resto conserva lo guardado.
+     */
+    private QueuePositionResponse toQueuePosition(TicketView ticket) {
+        if (ticket.status() != TicketStatus.EN_ESPERA) {
+            return new QueuePositionResponse(
+                ticket.ticketNumber(),
+                ticket.queuePosition(),
+                ticket.estimatedWaitMinutes(),
+                ticket.status().name()
+            );
+        }
+
+        int position = positionInQueue(ticket.queueType(), ticket.createdAt());
+
+        return new QueuePositionResponse(
+            ticket.ticketNumber(),
+            position,
+            estimateWait(position, ticket.queueType()),
+            ticket.status().name()
+        );
+    }
 
+    private int positionInQueue(QueueType queueType, LocalDateTime createdAt) {
+        return (int) ticketRepository.countTicketsAheadInQueue(queueType, createdAt) + 1;
+    }
+
+    private int estimateWait(int position, QueueType queueType) {
         long availableAdvisors = advisorRepository.countByStatusAndQueueType(
             AdvisorStatus.AVAILABLE, 
-            ticket.getQueueType()
+            queueType
         );
 
-        int estimatedWait = calculateEstimatedWait(position, ticket.getQueueType(), availableAdvisors);
-
-        ticket.setQueuePosition((int) position);
-        ticket.setEstimatedWaitMinutes(estimatedWait);
+        return calculateEstimatedWait(position, queueType, availableAdvisors);
     }
 
-    private int calculateEstimatedWait(long position, QueueType queueType, long availableAdvisors) {
+    // Cálculos y mapeos sin acceso a la base; visibles en el paquete para los benchmarks de src/jmh
+
+    int calculateEstimatedWait(long position, QueueType queueType, long availableAdvisors) {
         if (availableAdvisors == 0) {
             return queueType.getAverageTimeMinutes() * (int) position;
         }
@@ -107,19 +167,7 @@ public class TicketService {
         return (int) Math.ceil((double) position / availableAdvisors) * queueType.getAverageTimeMinutes();
     }
 
-    private String generateTicketNumber(QueueType queueType) {
-        String prefix = switch (queueType) {
-            case CAJA -> "C";
-            case PERSONAL_BANKER -> "PB";
-            case EMPRESAS -> "E";
-            case GERENCIA -> "G";
-        };
-        
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
-        return prefix + timestamp;
-    }
-
-    private TicketResponse toResponse(Ticket ticket) {
+    TicketResponse toResponse(Ticket ticket) {
         return new TicketResponse(
             ticket.getUuid(),
             ticket.getTicketNumber(),
@@ -132,4 +180,18 @@ public class TicketService {
             ticket.getCreatedAt()
         );
     }
+
+    TicketResponse toResponse(TicketView ticket) {
+        return new TicketResponse(
+            ticket.uuid(),
+            ticket.ticketNumber(),
+            ticket.queueType().name(),
+            ticket.status().name(),
+            ticket.queuePosition(),
+            ticket.estimatedWaitMinutes(),
+            ticket.advisorName(),
+            ticket.moduleNumber(),
+            ticket.createdAt()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.exception.InvalidTicketTransitionException;
+import com.example.ticketero.exception.TicketConflictException;
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Único punto de cambio de estado de un ticket.
+ *
+ * <p>Valida la transición con {@link TicketStatus#canTransitionTo} y la aplica con un
+ * {@code UPDATE ... WHERE id = ? AND status = ?}: si otra transición llegó antes, la fila ya no
+ * coincide y se lanza {@link TicketConflictException} sin bloquear ni pisar el cambio ajeno.
+ * Se ejecuta dentro de la transacción del llamador.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketStateMachine {
+
+    private final TicketRepository ticketRepository;
+
+    /**
+     * Pasa el ticket a ATENDIENDO con el asesor indicado.
+     *
+     * @return el estado anterior
+     */
+    public TicketStatus assign(Ticket ticket, Advisor advisor) {
+        TicketStatus from = requireTransition(ticket, TicketStatus.ATENDIENDO);
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = ticketRepository.assignIfStatus(ticket.getId(), ticket.getCreatedAt(), from, advisor, now);
+        if (updated == 0) {
+            throw new TicketConflictException(ticket.getTicketNumber(), from, TicketStatus.ATENDIENDO);
+        }
+
+        ticket.setStatus(TicketStatus.ATENDIENDO);
+        ticket.setAdvisor(advisor);
+        ticket.setAssignedAt(now);
+        return from;
+    }
+
+    /**
+     * Aplica una transición sin cambio de asesor; los estados terminales registran completedAt.
+     *
+     * @return el estado anterior
+     */
+    public TicketStatus transition(Ticket ticket, TicketStatus target) {
+        TicketStatus from = requireTransition(ticket, target);
+        LocalDateTime completedAt = target.isActive() ? null : LocalDateTime.now();
+
+        int updated = ticketRepository.transitionIfStatus(
+            ticket.getId(), ticket.getCreatedAt(), from, target, completedAt);
+        if (updated == 0) {
+            throw new TicketConflictException(ticket.getTicketNumber(), from, target);
+        }
+
+        ticket.setStatus(target);
+        ticket.setCompletedAt(completedAt);
+        return from;
+    }
+
+    private TicketStatus requireTransition(Ticket ticket, TicketStatus target) {
+        TicketStatus from = ticket.getStatus();
+        if (!from.canTransitionTo(target)) {
+            throw new InvalidTicketTransitionException(ticket.getTicketNumber(), from, target);
+        }
+        return from;
+    }
+}
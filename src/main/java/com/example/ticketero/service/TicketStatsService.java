@@ -0,0 +1,318 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.dto.response.TicketStatsResponse;
+import com.example.ticketero.model.enums.QueueType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Estadísticas históricas de tickets sobre las tablas de rollup
+ * {@code ticket_stats_hourly} y {@code ticket_stats_daily}.
+ * El rollup es incremental: solo lee los tickets creados, asignados o completados
+ * desde la marca de agua, acumula por hora, cola y asesor, y recalcula los días afectados
+ * a partir de las filas horarias. Los reportes leen únicamente los rollups.
+ * La marca de agua avanza con un retraso ({@code rollup.lag-seconds}) para no perder
+ * transacciones que aún no hacían commit.
+ */
+@Service
+@Slf4j
+public class TicketStatsService {
+
+    static final String JOB_NAME = "ticket_stats";
+
+    public enum Granularity { HOURLY, DAILY }
+
+    private static final long[] BUCKET_BOUNDS_MINUTES = {5, 15, 30, 60};
+    private static final List<String> HISTOGRAM_BUCKETS = List.of("le_5m", "le_15m", "le_30m", "le_60m", "gt_60m");
+
+    private static final int CREATED = 0;
+    private static final int ASSIGNED = 1;
+    private static final int COMPLETED = 2;
+    private static final int WAIT_SUM = 3;
+    private static final int SERVICE_SUM = 4;
+    private static final int WAIT_HISTOGRAM = 5;
+    private static final int SERVICE_HISTOGRAM = WAIT_HISTOGRAM + HISTOGRAM_BUCKETS.size();
+
+    /** Columnas acumulables, en el orden de los índices anteriores. */
+    private static final List<String> COUNTERS = buildCounters();
+
+    private static final String COLUMN_LIST = String.join(", ", COUNTERS);
+    private static final String SUM_LIST = COUNTERS.stream()
+        .map(column -> "SUM(" + column + ")")
+        .collect(Collectors.joining(", "));
+    private static final String UPDATE_HOURLY = "UPDATE ticket_stats_hourly SET "
+        + COUNTERS.stream().map(column -> column + " = " + column + " + ?").collect(Collectors.joining(", "))
+        + " WHERE bucket_start = ? AND queue_type = ? AND advisor_id = ?";
+    private static final String INSERT_HOURLY = "INSERT INTO ticket_stats_hourly (bucket_start, queue_type, advisor_id, "
+        + COLUMN_LIST + ") VALUES (" + "?, ".repeat(COUNTERS.size() + 2) + "?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long lagSeconds;
+    private final Duration maxWindow;
+
+    public TicketStatsService(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${rollup.lag-seconds:60}") long lagSeconds,
+                              @Value("${rollup.max-window-hours:24}") long maxWindowHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.lagSeconds = lagSeconds;
+        this.maxWindow = Duration.ofHours(maxWindowHours);
+    }
+
+    /**
+     * Acumula los eventos ocurridos desde la marca de agua, en ventanas de a lo más
+     * {@code rollup.max-window-hours}, cada una en su propia transacción junto con la marca de agua.
+     * Cada ventana bloquea la fila de la marca de agua ({@code FOR UPDATE}) y la vuelve a leer,
+     * de modo que si otro nodo ya la procesó se continúa desde donde quedó en vez de sumar dos veces.
+     *
+     * @return Ventanas procesadas
+     */
+    public int rollUp() {
+        LocalDateTime until = LocalDateTime.now().minusSeconds(lagSeconds).truncatedTo(ChronoUnit.SECONDS);
+        if (readWatermark() == null) {
+            initializeWatermark(until);
+        }
+
+        int windows = 0;
+        while (Boolean.TRUE.equals(transactionTemplate.execute(status -> processNextWindow(until)))) {
+            windows++;
+        }
+        return windows;
+    }
+
+    /**
+     * Estadísticas por período y cola, leídas solo desde los rollups.
+     */
+    public List<TicketStatsResponse> getStats(Granularity granularity, LocalDateTime from, LocalDateTime to,
+                                              QueueType queueType, Long advisorId) {
+        String table = granularity == Granularity.HOURLY ? "ticket_stats_hourly" : "ticket_stats_daily";
+        StringBuilder sql = new StringBuilder("SELECT bucket_start, queue_type, " + SUM_LIST
+            + " FROM " + table + " WHERE bucket_start >= ? AND bucket_start < ?");
+        List<Object> args = new ArrayList<>();
+        args.add(bucketBoundary(granularity, from));
+        args.add(bucketBoundary(granularity, to));
+        if (queueType != null) {
+            sql.append(" AND queue_type = ?");
+            args.add(queueType.name());
+        }
+        if (advisorId != null) {
+            sql.append(" AND advisor_id = ?");
+            args.add(advisorId);
+        }
+        sql.append(" GROUP BY bucket_start, queue_type ORDER BY bucket_start, queue_type");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toResponse(rs), args.toArray());
+    }
+
+    /**
+     * Procesa la siguiente ventana a partir de la marca de agua bloqueada.
+     *
+     * @return {@code false} si la marca de agua ya alcanzó {@code until}
+     */
+    private boolean processNextWindow(LocalDateTime until) {
+        LocalDateTime from = lockWatermark();
+        if (!from.isBefore(until)) {
+            return false;
+        }
+        LocalDateTime to = from.plus(maxWindow).isBefore(until) ? from.plus(maxWindow) : until;
+        int rows = processWindow(from, to);
+        log.debug("Ticket stats rollup window ({}, {}] updated {} hourly rows", from, to, rows);
+        return true;
+    }
+
+    private int processWindow(LocalDateTime from, LocalDateTime to) {
+        Map<BucketKey, long[]> buckets = new HashMap<>();
+        Timestamp fromTs = Timestamp.valueOf(from);
+        Timestamp toTs = Timestamp.valueOf(to);
+
+        jdbcTemplate.query(
+            "SELECT queue_type, created_at FROM tickets WHERE created_at > ? AND created_at <= ?",
+            rs -> {
+                LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+                bucket(buckets, createdAt, rs.getString("queue_type"), 0)[CREATED]++;
+            },
+            fromTs, toTs);
+
+        jdbcTemplate.query(
+            "SELECT queue_type, advisor_id, created_at, assigned_at FROM tickets WHERE assigned_at > ? AND assigned_at <= ?",
+            rs -> {
+                LocalDateTime assignedAt = rs.getTimestamp("assigned_at").toLocalDateTime();
+                long[] counters = bucket(buckets, assignedAt, rs.getString("queue_type"), rs.getLong("advisor_id"));
+                counters[ASSIGNED]++;
+                addDuration(counters, WAIT_SUM, WAIT_HISTOGRAM, rs.getTimestamp("created_at"), assignedAt);
+            },
+            fromTs, toTs);
+
+        jdbcTemplate.query(
+            "SELECT queue_type, advisor_id, assigned_at, completed_at FROM tickets WHERE completed_at > ? AND completed_at <= ?",
+            rs -> {
+                LocalDateTime completedAt = rs.getTimestamp("completed_at").toLocalDateTime();
+                long[] counters = bucket(buckets, completedAt, rs.getString("queue_type"), rs.getLong("advisor_id"));
+                counters[COMPLETED]++;
+                addDuration(counters, SERVICE_SUM, SERVICE_HISTOGRAM, rs.getTimestamp("assigned_at"), completedAt);
+            },
+            fromTs, toTs);
+
+        buckets.forEach(this::upsertHourly);
+        if (!buckets.isEmpty()) {
+            rebuildDaily(from, to);
+        }
+        saveWatermark(to);
+        return buckets.size();
+    }
+
+    private void upsertHourly(BucketKey key, long[] counters) {
+        Object[] keyArgs = {Timestamp.valueOf(key.bucketStart()), key.queueType(), key.advisorId()};
+        List<Object> updateArgs = new ArrayList<>();
+        for (long counter : counters) {
+            updateArgs.add(counter);
+        }
+        updateArgs.addAll(List.of(keyArgs));
+
+        int updated = jdbcTemplate.update(UPDATE_HOURLY, updateArgs.toArray());
+        if (updated == 0) {
+            List<Object> insertArgs = new ArrayList<>(List.of(keyArgs));
+            insertArgs.addAll(updateArgs.subList(0, counters.length));
+            jdbcTemplate.update(INSERT_HOURLY, insertArgs.toArray());
+        }
+    }
+
+    /**
+     * Recalcula los días que toca la ventana a partir de sus filas horarias.
+     */
+    private void rebuildDaily(LocalDateTime from, LocalDateTime to) {
+        Timestamp firstDay = Timestamp.valueOf(from.toLocalDate().atStartOfDay());
+        Timestamp afterLastDay = Timestamp.valueOf(to.toLocalDate().plusDays(1).atStartOfDay());
+
+        jdbcTemplate.update(
+            "DELETE FROM ticket_stats_daily WHERE bucket_start >= CAST(? AS DATE) AND bucket_start < CAST(? AS DATE)",
+            firstDay, afterLastDay);
+        jdbcTemplate.update(
+            "INSERT INTO ticket_stats_daily (bucket_start, queue_type, advisor_id, " + COLUMN_LIST + ")"
+                + " SELECT CAST(bucket_start AS DATE), queue_type, advisor_id, " + SUM_LIST
+                + " FROM ticket_stats_hourly WHERE bucket_start >= ? AND bucket_start < ?"
+                + " GROUP BY CAST(bucket_start AS DATE), queue_type, advisor_id",
+            firstDay, afterLastDay);
+    }
+
+    private LocalDateTime readWatermark() {
+        List<Timestamp> watermark = jdbcTemplate.queryForList(
+            "SELECT processed_until FROM rollup_watermarks WHERE job_name = ?", Timestamp.class, JOB_NAME);
+        return watermark.isEmpty() ? null : watermark.get(0).toLocalDateTime();
+    }
+
+    private LocalDateTime lockWatermark() {
+        return jdbcTemplate.queryForObject(
+            "SELECT processed_until FROM rollup_watermarks WHERE job_name = ? FOR UPDATE", Timestamp.class, JOB_NAME)
+            .toLocalDateTime();
+    }
+
+    /**
+     * Primera ejecución: parte justo antes del ticket más antiguo para acumular todo el historial.
+     * Si otro nodo inserta la marca de agua al mismo tiempo, se usa la suya.
+     */
+    private void initializeWatermark(LocalDateTime until) {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM tickets", Timestamp.class);
+        LocalDateTime start = oldest != null ? oldest.toLocalDateTime().minusSeconds(1) : until;
+        if (!start.isBefore(until)) {
+            start = until;
+        }
+        try {
+            jdbcTemplate.update(
+                "INSERT INTO rollup_watermarks (job_name, processed_until) VALUES (?, ?)",
+                JOB_NAME, Timestamp.valueOf(start));
+            log.info("Ticket stats rollup starting from {}", start);
+        } catch (DuplicateKeyException e) {
+            log.debug("Ticket stats rollup watermark already initialized by another node");
+        }
+    }
+
+    private void saveWatermark(LocalDateTime processedUntil) {
+        jdbcTemplate.update(
+            "UPDATE rollup_watermarks SET processed_until = ? WHERE job_name = ?",
+            Timestamp.valueOf(processedUntil), JOB_NAME);
+    }
+
+    private static long[] bucket(Map<BucketKey, long[]> buckets, LocalDateTime time, String queueType, long advisorId) {
+        BucketKey key = new BucketKey(time.truncatedTo(ChronoUnit.HOURS), queueType, advisorId);
+        return buckets.computeIfAbsent(key, k -> new long[COUNTERS.size()]);
+    }
+
+    private static void addDuration(long[] counters, int sumIndex, int histogramIndex, Timestamp start, LocalDateTime end) {
+        if (start == null) {
+            return;
+        }
+        long seconds = Math.max(Duration.between(start.toLocalDateTime(), end).toSeconds(), 0);
+        counters[sumIndex] += seconds;
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MINUTES.length && seconds > BUCKET_BOUNDS_MINUTES[bucket] * 60) {
+            bucket++;
+        }
+        counters[histogramIndex + bucket]++;
+    }
+
+    private static Timestamp bucketBoundary(Granularity granularity, LocalDateTime time) {
+        return Timestamp.valueOf(granularity == Granularity.HOURLY
+            ? time.truncatedTo(ChronoUnit.HOURS)
+            : time.truncatedTo(ChronoUnit.DAYS));
+    }
+
+    private static TicketStatsResponse toResponse(ResultSet rs) throws SQLException {
+        long[] counters = new long[COUNTERS.size()];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = rs.getLong(i + 3);
+        }
+        return new TicketStatsResponse(
+            rs.getTimestamp("bucket_start").toLocalDateTime(),
+            rs.getString("queue_type"),
+            counters[CREATED],
+            counters[ASSIGNED],
+            counters[COMPLETED],
+            average(counters[WAIT_SUM], counters[ASSIGNED]),
+            average(counters[SERVICE_SUM], counters[COMPLETED]),
+            histogram(counters, WAIT_HISTOGRAM),
+            histogram(counters, SERVICE_HISTOGRAM)
+        );
+    }
+
+    private static Double average(long sum, long samples) {
+        return samples > 0 ? (double) sum / samples : null;
+    }
+
+    private static Map<String, Long> histogram(long[] counters, int offset) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < HISTOGRAM_BUCKETS.size(); i++) {
+            histogram.put(HISTOGRAM_BUCKETS.get(i), counters[offset + i]);
+        }
+        return histogram;
+    }
+
+    private static List<String> buildCounters() {
+        List<String> counters = new ArrayList<>(List.of(
+            "created_count", "assigned_count", "completed_count", "wait_seconds_sum", "service_seconds_sum"));
+        HISTOGRAM_BUCKETS.forEach(bucket -> counters.add("wait_" + bucket));
+        HISTOGRAM_BUCKETS.forEach(bucket -> counters.add("service_" + bucket));
+        return List.copyOf(counters);
+    }
+
+    private record BucketKey(LocalDateTime bucketStart, String queueType, long advisorId) {}
+}
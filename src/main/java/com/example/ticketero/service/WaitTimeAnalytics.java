@@ -0,0 +1,140 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.dto.response.WaitTimePercentiles;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SynchronizedHistogram;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Percentiles de tiempo real de espera (asignación − creación) y de atención
+ * (término − asignación), por cola, por asesor y por hora.
+ * Cada serie es un histograma HDR de tamaño fijo que se alimenta en cada transición
+ * (tras el commit), por lo que consultar percentiles no recorre la tabla de tickets.
+ * Los histogramas son combinables: los totales se obtienen sumando las series por cola.
+ * Las series horarias se conservan {@value #HOURS_RETAINED} horas.
+ */
+@Component
+@Slf4j
+public class WaitTimeAnalytics {
+
+    static final long MAX_TRACKABLE_SECONDS = Duration.ofDays(1).toSeconds();
+    static final int HOURS_RETAINED = 48;
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final String ALL = "ALL";
+
+    public enum Dimension { QUEUE, ADVISOR, HOUR }
+
+    public enum Metric { WAIT, SERVICE }
+
+    private record Series(Dimension dimension, String key, Metric metric) {}
+
+    private final Map<Series, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Registra la espera de un ticket recién asignado.
+     */
+    public void onTicketAssigned(Ticket ticket) {
+        record(ticket, Metric.WAIT, ticket.getCreatedAt(), ticket.getAssignedAt());
+    }
+
+    /**
+     * Registra el tiempo de atención de un ticket completado.
+     */
+    public void onTicketCompleted(Ticket ticket) {
+        record(ticket, Metric.SERVICE, ticket.getAssignedAt(), ticket.getCompletedAt());
+    }
+
+    /**
+     * Percentiles de todas las series de la dimensión indicada, más el total combinado por métrica.
+     */
+    public List<WaitTimePercentiles> getPercentiles(Dimension dimension) {
+        List<WaitTimePercentiles> result = new ArrayList<>();
+        Map<Metric, Histogram> totals = new EnumMap<>(Metric.class);
+
+        histograms.entrySet().stream()
+            .filter(entry -> entry.getKey().dimension() == dimension)
+            .sorted(Comparator.comparing((Map.Entry<Series, Histogram> entry) -> entry.getKey().metric())
+                .thenComparing(entry -> entry.getKey().key()))
+            .forEach(entry -> {
+                Series series = entry.getKey();
+                Histogram copy = entry.getValue().copy();
+                result.add(toPercentiles(dimension, series.key(), series.metric(), copy));
+                if (dimension == Dimension.QUEUE) {
+                    totals.computeIfAbsent(series.metric(), metric -> newHistogram()).add(copy);
+                }
+            });
+
+        totals.forEach((metric, total) -> result.add(toPercentiles(dimension, ALL, metric, total)));
+        return result;
+    }
+
+    /**
+     * Descarta las series horarias más antiguas que la ventana de retención.
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void evictExpiredHours() {
+        String oldest = hourKey(LocalDateTime.now().minusHours(HOURS_RETAINED));
+        boolean removed = histograms.keySet()
+            .removeIf(series -> series.dimension() == Dimension.HOUR && series.key().compareTo(oldest) < 0);
+        if (removed) {
+            log.debug("Evicted hourly wait-time series older than {}", oldest);
+        }
+    }
+
+    private void record(Ticket ticket, Metric metric, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            return;
+        }
+        long seconds = Math.min(Math.max(Duration.between(from, to).toSeconds(), 0), MAX_TRACKABLE_SECONDS);
+        String queue = ticket.getQueueType().name();
+        String advisor = ticket.getAdvisor() != null ? String.valueOf(ticket.getAdvisor().getId()) : null;
+        String hour = hourKey(to);
+
+        TransactionHooks.afterCommit(() -> {
+            histogram(new Series(Dimension.QUEUE, queue, metric)).recordValue(seconds);
+            histogram(new Series(Dimension.HOUR, hour, metric)).recordValue(seconds);
+            if (advisor != null) {
+                histogram(new Series(Dimension.ADVISOR, advisor, metric)).recordValue(seconds);
+            }
+        });
+    }
+
+    private Histogram histogram(Series series) {
+        return histograms.computeIfAbsent(series, key -> new SynchronizedHistogram(MAX_TRACKABLE_SECONDS, SIGNIFICANT_DIGITS));
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(MAX_TRACKABLE_SECONDS, SIGNIFICANT_DIGITS);
+    }
+
+    private static String hourKey(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.HOURS).toString();
+    }
+
+    private static WaitTimePercentiles toPercentiles(Dimension dimension, String key, Metric metric, Histogram histogram) {
+        return new WaitTimePercentiles(
+            dimension.name(),
+            key,
+            metric.name(),
+            histogram.getTotalCount(),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(90),
+            histogram.getValueAtPercentile(99),
+            histogram.getMaxValue()
+        );
+    }
+}
@@ -1,61 +1,51 @@
 package com.example.ticketero.util;
 
+import com.example.ticketero.model.entity.TicketNumberSequence;
 import com.example.ticketero.model.enums.QueueType;
-import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.repository.TicketNumberSequenceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDate;
 
 /**
  * Generador de números de ticket según RN-005 y RN-006.
- * Formato: [Prefijo][Número secuencial 01-99]
+ * Formato: [Prefijo][Número secuencial del día, desde 01]
+ * El correlativo vive en {@code ticket_number_sequences} y se reinicia cada día; no vuelve a 01
+ * al pasar de 99 (seguiría con 100) para no repetir números dentro del mismo día.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TicketNumberGenerator {
 
-    private final TicketRepository ticketRepository;
+    private final TicketNumberSequenceRepository sequenceRepository;
 
     /**
      * Genera el siguiente número de ticket para el tipo de cola especificado.
-     * 
+     * Debe llamarse dentro de la transacción que crea el ticket: la fila del correlativo
+     * queda bloqueada hasta su commit.
+     *
      * @param queueType Tipo de cola
      * @return Número de ticket generado (ej: "C01", "P15")
      */
+    @Transactional
     public String generateNextNumber(QueueType queueType) {
-        String prefix = queueType.getPrefix();
-        
-        // Buscar el último número del día para este tipo de cola
-        Optional<String> lastNumber = ticketRepository.findLastTicketNumberOfDay(queueType);
-        
-        int nextSequence = 1;
-        
-        if (lastNumber.isPresent()) {
-            // Extraer el número secuencial del último ticket
-            String lastNumberStr = lastNumber.get();
-            String sequenceStr = lastNumberStr.substring(1); // Remover prefijo
-            
-            try {
-                int lastSequence = Integer.parseInt(sequenceStr);
-                nextSequence = lastSequence + 1;
-                
-                // Si llegamos a 99, reiniciar en 01
-                if (nextSequence > 99) {
-                    nextSequence = 1;
-                    log.warn("Ticket sequence for {} reached 99, resetting to 01", queueType);
-                }
-            } catch (NumberFormatException e) {
-                log.error("Error parsing last ticket number: {}", lastNumberStr, e);
-                nextSequence = 1;
-            }
+        LocalDate today = LocalDate.now();
+        int sequence;
+        if (sequenceRepository.advance(queueType, today) > 0) {
+            sequence = sequenceRepository.findLastValue(queueType);
+        } else {
+            // Esquemas sin la fila sembrada por la migración V16 (p. ej. generados por Hibernate)
+            sequenceRepository.saveAndFlush(new TicketNumberSequence(queueType, today, 1));
+            sequence = 1;
         }
-        
-        String ticketNumber = String.format("%s%02d", prefix, nextSequence);
+
+        String ticketNumber = String.format("%s%02d", queueType.getPrefix(), sequence);
         log.debug("Generated ticket number: {} for queue type: {}", ticketNumber, queueType);
-        
+
         return ticketNumber;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+-- audit_events particionada por mes (RANGE sobre created_at).
+-- La clave primaria debe incluir la columna de partición: (id, created_at).
+-- Las particiones futuras las crea PartitionMaintenanceService; la partición DEFAULT
+-- solo recibe filas fuera de rango y debería quedar vacía.
+ALTER TABLE audit_events RENAME TO audit_events_legacy;
+ALTER SEQUENCE audit_events_id_seq OWNED BY NONE;
+
+CREATE TABLE audit_events (
+    id BIGINT NOT NULL DEFAULT nextval('audit_events_id_seq'),
+    event_type VARCHAR(50) NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    actor VARCHAR(100) NOT NULL,
+    old_value TEXT,
+    new_value TEXT,
+    description TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT audit_events_partitioned_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM audit_events_legacy), NOW()));
+    last_month DATE := date_trunc('month', NOW() + INTERVAL '3 months');
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE audit_events_%s PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, '"y"YYYY"m"MM'), month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+CREATE TABLE audit_events_default PARTITION OF audit_events DEFAULT;
+
+INSERT INTO audit_events (id, event_type, entity_type, entity_id, actor, old_value, new_value, description, created_at)
+SELECT id, event_type, entity_type, entity_id, actor, old_value, new_value, description, created_at
+FROM audit_events_legacy;
+
+DROP TABLE audit_events_legacy;
+ALTER SEQUENCE audit_events_id_seq OWNED BY audit_events.id;
+
+-- Índices para paginación keyset (created_at DESC, id DESC) con cada filtro
+CREATE INDEX idx_audit_events_created_at ON audit_events(created_at DESC, id DESC);
+CREATE INDEX idx_audit_events_entity ON audit_events(entity_type, entity_id, created_at DESC, id DESC);
+CREATE INDEX idx_audit_events_event_type ON audit_events(event_type, created_at DESC, id DESC);
+CREATE INDEX idx_audit_events_actor ON audit_events(actor, created_at DESC, id DESC);
@@ -0,0 +1,6 @@
+-- Hibernate reserva bloques de 50 ids por llamada a la secuencia (optimizador pooled-lo),
+-- lo que permite agrupar los INSERT en lotes JDBC. El DEFAULT nextval de las columnas se mantiene
+-- para inserciones directas por SQL, que simplemente consumen un bloque completo.
+ALTER SEQUENCE tickets_id_seq INCREMENT BY 50;
+ALTER SEQUENCE advisors_id_seq INCREMENT BY 50;
+ALTER SEQUENCE messages_id_seq INCREMENT BY 50;
@@ -0,0 +1,15 @@
+-- Índices de la fila activa.
+-- Solo una fracción mínima de tickets está activa (EN_ESPERA, PROXIMO, ATENDIENDO): los índices parciales
+-- mantienen el tamaño de los índices calientes proporcional a la fila actual y no al histórico.
+-- Un ticket sale de estos índices en la misma transacción que lo lleva a COMPLETADO, CANCELADO o NO_ATENDIDO.
+
+-- Orden de llegada por cola: siguiente ticket a asignar y posición en la fila
+CREATE INDEX idx_tickets_waiting_queue_created_at ON tickets(queue_type, created_at)
+    WHERE status = 'EN_ESPERA';
+
+-- Conteos por cola y estado de los tickets activos (dashboard)
+CREATE INDEX idx_tickets_active_queue_status ON tickets(queue_type, status)
+    WHERE status IN ('EN_ESPERA', 'PROXIMO', 'ATENDIENDO');
+
+-- Reemplazado por los índices parciales: indexaba también todo el histórico
+DROP INDEX idx_tickets_status_queue_type;
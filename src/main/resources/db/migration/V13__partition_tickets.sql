@@ -0,0 +1,68 @@
+-- tickets particionada por mes (RANGE sobre created_at), igual que audit_events (V10).
+-- Mensual y no diaria: las búsquedas que no pueden podar (uuid, número de ticket, id) recorren
+-- un índice por partición, y con particiones mensuales siguen siendo pocas.
+--
+-- Restricciones que PostgreSQL no admite sobre una tabla particionada sin incluir created_at:
+--   * la clave primaria pasa a ser (id, created_at);
+--   * uuid y ticket_number dejan de ser UNIQUE (quedan indexados);
+--   * las FK entrantes (messages.ticket_id, advisors.current_ticket_id) se eliminan; la aplicación
+--     mantiene esas referencias y las particiones antiguas solo se separan cuando no tienen tickets activos.
+-- Las particiones futuras las crea y las antiguas las separa PartitionMaintenanceService.
+ALTER TABLE messages DROP CONSTRAINT fk_message_ticket;
+ALTER TABLE advisors DROP CONSTRAINT fk_advisors_current_ticket;
+
+ALTER TABLE tickets RENAME TO tickets_legacy;
+ALTER SEQUENCE tickets_id_seq OWNED BY NONE;
+
+CREATE TABLE tickets (
+    id BIGINT NOT NULL DEFAULT nextval('tickets_id_seq'),
+    uuid UUID NOT NULL,
+    ticket_number VARCHAR(20) NOT NULL,
+    customer_rut VARCHAR(12) NOT NULL,
+    customer_phone VARCHAR(15),
+    queue_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    queue_position INTEGER,
+    estimated_wait_minutes INTEGER,
+    advisor_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    assigned_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    CONSTRAINT tickets_partitioned_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_ticket_advisor FOREIGN KEY (advisor_id) REFERENCES advisors(id)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM tickets_legacy), NOW()));
+    last_month DATE := date_trunc('month', NOW() + INTERVAL '3 months');
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE tickets_%s PARTITION OF tickets FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, '"y"YYYY"m"MM'), month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+CREATE TABLE tickets_default PARTITION OF tickets DEFAULT;
+
+INSERT INTO tickets (id, uuid, ticket_number, customer_rut, customer_phone, queue_type, status, queue_position,
+                     estimated_wait_minutes, advisor_id, created_at, assigned_at, completed_at)
+SELECT id, uuid, ticket_number, customer_rut, customer_phone, queue_type, status, queue_position,
+       estimated_wait_minutes, advisor_id, created_at, assigned_at, completed_at
+FROM tickets_legacy;
+
+DROP TABLE tickets_legacy;
+ALTER SEQUENCE tickets_id_seq OWNED BY tickets.id;
+
+CREATE INDEX idx_tickets_uuid ON tickets(uuid);
+CREATE INDEX idx_tickets_ticket_number ON tickets(ticket_number, created_at DESC);
+CREATE INDEX idx_tickets_created_at ON tickets(created_at);
+CREATE INDEX idx_tickets_advisor_id ON tickets(advisor_id);
+CREATE INDEX idx_tickets_assigned_at ON tickets(assigned_at);
+CREATE INDEX idx_tickets_completed_at ON tickets(completed_at);
+CREATE INDEX idx_tickets_waiting_queue_created_at ON tickets(queue_type, created_at)
+    WHERE status = 'EN_ESPERA';
+CREATE INDEX idx_tickets_active_queue_status ON tickets(queue_type, status)
+    WHERE status IN ('EN_ESPERA', 'PROXIMO', 'ATENDIENDO');
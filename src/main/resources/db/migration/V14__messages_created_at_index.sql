@@ -0,0 +1,3 @@
+-- La purga de retención recorre messages en orden (created_at, id): con ids pooled-lo asignados por
+-- varios nodos el id ya no sigue el orden de creación, así que no puede paginar por clave primaria.
+CREATE INDEX idx_messages_created_at ON messages(created_at, id);
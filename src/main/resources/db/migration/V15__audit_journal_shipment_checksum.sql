@@ -0,0 +1,3 @@
+-- CRC32C del segmento enviado: un nombre repetido no basta para darlo por cargado.
+-- Las filas anteriores quedan sin checksum y no coinciden con ningún segmento nuevo.
+ALTER TABLE audit_journal_shipments ADD COLUMN checksum BIGINT;
@@ -0,0 +1,22 @@
+-- Números de ticket únicos sin renunciar al particionado de V13.
+-- PostgreSQL solo admite UNIQUE en una tabla particionada si incluye la clave de partición,
+-- así que la restricción es (ticket_number, created_at); la unicidad real dentro del día la da
+-- el correlativo por cola de ticket_number_sequences (RN-005), que se bloquea por fila al avanzar.
+CREATE TABLE ticket_number_sequences (
+    queue_type VARCHAR(20) PRIMARY KEY,
+    sequence_day DATE NOT NULL,
+    last_value INTEGER NOT NULL
+);
+
+-- Una fila por cola desde el inicio: generar un número nunca inserta, solo actualiza
+INSERT INTO ticket_number_sequences (queue_type, sequence_day, last_value)
+VALUES ('CAJA', CURRENT_DATE - 1, 0),
+       ('PERSONAL_BANKER', CURRENT_DATE - 1, 0),
+       ('EMPRESAS', CURRENT_DATE - 1, 0),
+       ('GERENCIA', CURRENT_DATE - 1, 0);
+
+-- Reemplaza al índice no único idx_tickets_ticket_number de V13
+DROP INDEX idx_tickets_ticket_number;
+ALTER TABLE tickets ADD CONSTRAINT uq_tickets_ticket_number UNIQUE (ticket_number, created_at);
+ALTER TABLE tickets ADD CONSTRAINT uq_tickets_uuid UNIQUE (uuid, created_at);
+DROP INDEX idx_tickets_uuid;
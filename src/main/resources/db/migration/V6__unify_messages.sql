@@ -0,0 +1,86 @@
+-- Unify messages and mensaje into a single compact notification table.
+-- Rendered TEXT is replaced by a template code plus the template's variable parameters,
+-- and statuses become SMALLINT codes (see MessageType / MessageStatus).
+
+-- Move the old table out of the way, freeing its object names
+ALTER TABLE messages RENAME TO messages_legacy;
+ALTER INDEX messages_pkey RENAME TO messages_legacy_pkey;
+ALTER SEQUENCE messages_id_seq RENAME TO messages_legacy_id_seq;
+DROP INDEX idx_messages_ticket_id;
+DROP INDEX idx_messages_delivery_status;
+DROP INDEX idx_messages_created_at;
+
+CREATE TABLE messages (
+    id BIGSERIAL PRIMARY KEY,
+    ticket_id BIGINT NOT NULL,
+    template SMALLINT NOT NULL,      -- 1 CONFIRMATION, 2 PRE_NOTICE, 3 TURN_ACTIVE
+    params VARCHAR(120),
+    status SMALLINT NOT NULL,        -- 0 PENDIENTE, 1 ENVIADO, 2 FALLIDO
+    attempts SMALLINT NOT NULL DEFAULT 0,
+    scheduled_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_message_ticket FOREIGN KEY (ticket_id) REFERENCES tickets(id)
+);
+
+-- Rows from the English table: recover CONFIRMATION params from the rendered content
+INSERT INTO messages (ticket_id, template, params, status, attempts, scheduled_at, sent_at, created_at)
+SELECT m.ticket_id,
+       CASE m.message_type
+           WHEN 'CONFIRMATION' THEN 1
+           WHEN 'PRE_NOTICE' THEN 2
+           ELSE 3
+       END,
+       CASE m.message_type
+           WHEN 'CONFIRMATION' THEN
+               COALESCE(substring(m.content FROM 'Posición: #(\d+)'), '0') || '|' ||
+               COALESCE(substring(m.content FROM 'Tiempo estimado: (\d+)'), '0')
+           WHEN 'TURN_ACTIVE' THEN a.module_number || '|' || a.name
+       END,
+       CASE m.delivery_status
+           WHEN 'SENT' THEN 1
+           WHEN 'FAILED' THEN 2
+           ELSE 0
+       END,
+       LEAST(m.retry_count, 32767),
+       m.created_at,
+       m.sent_at,
+       m.created_at
+FROM messages_legacy m
+JOIN tickets t ON t.id = m.ticket_id
+LEFT JOIN advisors a ON a.id = t.advisor_id
+ORDER BY m.id;
+
+-- Rows from the Spanish table: params are rebuilt from the ticket
+INSERT INTO messages (ticket_id, template, params, status, attempts, scheduled_at, sent_at, created_at)
+SELECT me.ticket_id,
+       CASE me.plantilla
+           WHEN 'TOTEM_TICKET_CREADO' THEN 1
+           WHEN 'TOTEM_PROXIMO_TURNO' THEN 2
+           ELSE 3
+       END,
+       CASE me.plantilla
+           WHEN 'TOTEM_TICKET_CREADO' THEN
+               COALESCE(t.queue_position, 0) || '|' || COALESCE(t.estimated_wait_minutes, 0)
+           WHEN 'TOTEM_ES_TU_TURNO' THEN a.module_number || '|' || a.name
+       END,
+       CASE me.estado_envio
+           WHEN 'ENVIADO' THEN 1
+           WHEN 'FALLIDO' THEN 2
+           ELSE 0
+       END,
+       LEAST(me.intentos, 32767),
+       me.fecha_programada,
+       me.fecha_envio,
+       me.created_at
+FROM mensaje me
+JOIN tickets t ON t.id = me.ticket_id
+LEFT JOIN advisors a ON a.id = t.advisor_id
+ORDER BY me.id;
+
+DROP TABLE messages_legacy;
+DROP TABLE mensaje;
+
+-- Only the indexes the dispatcher and the ticket relationship need
+CREATE INDEX idx_messages_ticket_id ON messages(ticket_id);
+CREATE INDEX idx_messages_pending ON messages(scheduled_at) WHERE status = 0;
@@ -0,0 +1,17 @@
+-- Ticket en atención de cada asesor, desnormalizado para listar asesores
+-- sin recorrer su historial de tickets.
+ALTER TABLE advisors ADD COLUMN current_ticket_id BIGINT;
+
+ALTER TABLE advisors ADD CONSTRAINT fk_advisors_current_ticket
+    FOREIGN KEY (current_ticket_id) REFERENCES tickets(id) ON DELETE SET NULL;
+
+UPDATE advisors a
+SET current_ticket_id = t.id
+FROM (
+    SELECT DISTINCT ON (advisor_id) advisor_id, id
+    FROM tickets
+    WHERE advisor_id IS NOT NULL
+      AND status IN ('PROXIMO', 'ATENDIENDO')
+    ORDER BY advisor_id, assigned_at DESC NULLS LAST, id DESC
+) t
+WHERE t.advisor_id = a.id;
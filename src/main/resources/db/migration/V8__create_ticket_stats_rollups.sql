@@ -0,0 +1,57 @@
+-- Rollups incrementales de tickets por hora y por día, cola y asesor (0 = sin asesor).
+-- Cada evento se imputa al período en que ocurrió: creación (created_at),
+-- asignación (assigned_at, con la espera) y término (completed_at, con la atención).
+-- Los histogramas son conteos por tramo de minutos y se combinan con SUM.
+CREATE TABLE ticket_stats_hourly (
+    bucket_start TIMESTAMP NOT NULL,
+    queue_type VARCHAR(20) NOT NULL,
+    advisor_id BIGINT NOT NULL DEFAULT 0,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    assigned_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    wait_seconds_sum BIGINT NOT NULL DEFAULT 0,
+    service_seconds_sum BIGINT NOT NULL DEFAULT 0,
+    wait_le_5m BIGINT NOT NULL DEFAULT 0,
+    wait_le_15m BIGINT NOT NULL DEFAULT 0,
+    wait_le_30m BIGINT NOT NULL DEFAULT 0,
+    wait_le_60m BIGINT NOT NULL DEFAULT 0,
+    wait_gt_60m BIGINT NOT NULL DEFAULT 0,
+    service_le_5m BIGINT NOT NULL DEFAULT 0,
+    service_le_15m BIGINT NOT NULL DEFAULT 0,
+    service_le_30m BIGINT NOT NULL DEFAULT 0,
+    service_le_60m BIGINT NOT NULL DEFAULT 0,
+    service_gt_60m BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (bucket_start, queue_type, advisor_id)
+);
+
+CREATE TABLE ticket_stats_daily (
+    bucket_start DATE NOT NULL,
+    queue_type VARCHAR(20) NOT NULL,
+    advisor_id BIGINT NOT NULL DEFAULT 0,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    assigned_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    wait_seconds_sum BIGINT NOT NULL DEFAULT 0,
+    service_seconds_sum BIGINT NOT NULL DEFAULT 0,
+    wait_le_5m BIGINT NOT NULL DEFAULT 0,
+    wait_le_15m BIGINT NOT NULL DEFAULT 0,
+    wait_le_30m BIGINT NOT NULL DEFAULT 0,
+    wait_le_60m BIGINT NOT NULL DEFAULT 0,
+    wait_gt_60m BIGINT NOT NULL DEFAULT 0,
+    service_le_5m BIGINT NOT NULL DEFAULT 0,
+    service_le_15m BIGINT NOT NULL DEFAULT 0,
+    service_le_30m BIGINT NOT NULL DEFAULT 0,
+    service_le_60m BIGINT NOT NULL DEFAULT 0,
+    service_gt_60m BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (bucket_start, queue_type, advisor_id)
+);
+
+-- Marca de agua por job: eventos con timestamp <= processed_until ya fueron acumulados
+CREATE TABLE rollup_watermarks (
+    job_name VARCHAR(50) PRIMARY KEY,
+    processed_until TIMESTAMP NOT NULL
+);
+
+-- Lectura incremental de asignaciones y términos desde la marca de agua
+CREATE INDEX idx_tickets_assigned_at ON tickets(assigned_at);
+CREATE INDEX idx_tickets_completed_at ON tickets(completed_at);
@@ -0,0 +1,7 @@
+-- Segmentos del diario de auditoría ya cargados en audit_events.
+-- Se inserta en la misma transacción que el COPY, para no duplicar eventos al reintentar.
+CREATE TABLE audit_journal_shipments (
+    segment_name VARCHAR(64) PRIMARY KEY,
+    record_count BIGINT NOT NULL,
+    shipped_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
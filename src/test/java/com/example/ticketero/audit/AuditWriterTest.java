@@ -0,0 +1,138 @@
+package com.example.ticketero.audit;
+
+import com.example.ticketero.config.AuditWriterProperties;
+import com.example.ticketero.config.AuditWriterProperties.Mode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:audit" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE audit_events (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                event_type VARCHAR(50) NOT NULL,
+                entity_type VARCHAR(50) NOT NULL,
+                entity_id BIGINT NOT NULL,
+                actor VARCHAR(100) NOT NULL,
+                old_value TEXT,
+                new_value TEXT,
+                description TEXT,
+                created_at TIMESTAMP NOT NULL
+            )
+            """);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldWriteQueuedEventsInMultiRowBatches() {
+        // Given
+        AuditWriter writer = writer(Mode.ASYNC, 16, 2);
+        for (long i = 1; i <= 5; i++) {
+            writer.write(record(i));
+        }
+
+        // When
+        writer.drain();
+
+        // Then
+        assertThat(countRows()).isEqualTo(5);
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(meterRegistry.summary("ticketero.audit.flush.size").count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("ticketero.audit.flush").count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldEnqueueOnlyEventsOfCommittedTransactions() {
+        // Given
+        AuditWriter writer = writer(Mode.AFTER_COMMIT, 16, 10);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            writer.write(record(1));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> writer.write(record(2)));
+        writer.drain();
+
+        // Then
+        assertThat(jdbcTemplate.queryForList("SELECT entity_id FROM audit_events", Long.class)).containsExactly(2L);
+    }
+
+    @Test
+    void shouldInsertInCallerTransactionWhenBufferIsFull() {
+        // Given
+        AuditWriter writer = writer(Mode.AFTER_COMMIT, 2, 10);
+        transactionTemplate.executeWithoutResult(status -> {
+            writer.write(record(1));
+            writer.write(record(2));
+        });
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            writer.write(record(3));
+            assertThat(countRows()).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> writer.write(record(4)));
+
+        // Then
+        assertThat(countRows()).isEqualTo(1);
+        assertThat(writer.getQueueDepth()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ticketero.audit.events.fallback").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFlushRemainingEventsOnStop() {
+        // Given
+        AuditWriter writer = writer(Mode.ASYNC, 64, 100);
+        writer.start();
+        for (long i = 1; i <= 10; i++) {
+            writer.write(record(i));
+        }
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(countRows()).isEqualTo(10);
+    }
+
+    private AuditWriter writer(Mode mode, int capacity, int batchSize) {
+        AuditWriterProperties properties = new AuditWriterProperties();
+        properties.setMode(mode);
+        properties.setCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setFlushIntervalMillis(50);
+        return new AuditWriter(jdbcTemplate, transactionManager, properties, meterRegistry);
+    }
+
+    private AuditRecord record(long entityId) {
+        return new AuditRecord("TICKET_CREATED", "TICKET", entityId, "SYSTEM",
+            null, "C0" + entityId, "Ticket created", LocalDateTime.now());
+    }
+
+    private long countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Long.class);
+    }
+}
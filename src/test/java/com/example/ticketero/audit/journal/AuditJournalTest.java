@@ -0,0 +1,169 @@
+package com.example.ticketero.audit.journal;
+
+import com.example.ticketero.audit.AuditRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditJournalTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 15, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldFindEventsByEntityAndTimeAcrossSegments() {
+        // Given
+        try (AuditJournal journal = new AuditJournal(dir, 4096, 4)) {
+            for (int i = 0; i < 200; i++) {
+                journal.append(record(i % 10, START.plusMinutes(i)));
+            }
+
+            // When
+            List<AuditRecord> byEntity = journal.find("TICKET", 3L, START, START.plusDays(1));
+            List<AuditRecord> byTime = journal.find(null, null, START.plusMinutes(50), START.plusMinutes(59));
+
+            // Then
+            assertThat(journal.unshippedSegments()).hasSizeGreaterThan(2);
+            assertThat(byEntity).hasSize(20).allSatisfy(record -> assertThat(record.entityId()).isEqualTo(3L));
+            assertThat(byEntity.get(1).createdAt()).isEqualTo(START.plusMinutes(13));
+            assertThat(byTime).extracting(AuditRecord::createdAt)
+                .containsExactly(START.plusMinutes(50), START.plusMinutes(51), START.plusMinutes(52),
+                    START.plusMinutes(53), START.plusMinutes(54), START.plusMinutes(55), START.plusMinutes(56),
+                    START.plusMinutes(57), START.plusMinutes(58), START.plusMinutes(59));
+        }
+    }
+
+    @Test
+    void shouldRecoverUnsealedSegmentAfterCrash() {
+        // Given
+        AuditJournal crashed = new AuditJournal(dir, 64 * 1024, 8);
+        for (int i = 0; i < 30; i++) {
+            crashed.append(record(i, START.plusSeconds(i)));
+        }
+
+        // When
+        try (AuditJournal reopened = new AuditJournal(dir, 64 * 1024, 8)) {
+            // Then
+            assertThat(reopened.unshippedSegments()).containsExactly(1L);
+            assertThat(reopened.find(null, null, START, START.plusMinutes(1))).hasSize(30);
+            AuditRecord recovered = reopened.find("TICKET", 7L, START, START.plusMinutes(1)).get(0);
+            assertThat(recovered.description()).isEqualTo("Ticket created \"7\"");
+            assertThat(recovered.oldValue()).isNull();
+        }
+    }
+
+    @Test
+    void shouldShipSealedSegmentsExactlyOnce() throws Exception {
+        // Given
+        DriverManagerDataSource dataSource = auditDataSource();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        try (AuditJournal journal = new AuditJournal(dir, 64 * 1024, 8)) {
+            AuditJournalShipper shipper = shipper(journal, dataSource, false);
+            for (int i = 0; i < 25; i++) {
+                journal.append(record(i, START.plusSeconds(i)));
+            }
+
+            // When
+            long first = shipper.shipPending();
+            Files.delete(dir.resolve(journal.segmentName(1).replace(".seg", AuditJournal.SHIPPED_SUFFIX)));
+            long second = shipper.shipPending();
+
+            // Then
+            assertThat(first).isEqualTo(25);
+            assertThat(second).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Long.class)).isEqualTo(25);
+            assertThat(journal.unshippedSegments()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldNotReuseSegmentNamesAfterDeletingShippedSegments(@TempDir Path otherDir) {
+        // Given
+        DriverManagerDataSource dataSource = auditDataSource();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        try (AuditJournal journal = new AuditJournal(dir, 64 * 1024, 8)) {
+            journal.append(record(1, START));
+            shipper(journal, dataSource, true).shipPending();
+        }
+
+        // When
+        long reshipped;
+        long otherShipped;
+        try (AuditJournal reopened = new AuditJournal(dir, 64 * 1024, 8);
+             AuditJournal otherNode = new AuditJournal(otherDir, 64 * 1024, 8)) {
+            reopened.append(record(2, START.plusSeconds(1)));
+            otherNode.append(record(3, START.plusSeconds(2)));
+            reshipped = shipper(reopened, dataSource, true).shipPending();
+            otherShipped = shipper(otherNode, dataSource, true).shipPending();
+        }
+
+        // Then
+        assertThat(reshipped).isEqualTo(1);
+        assertThat(otherShipped).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Long.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT segment_name FROM audit_journal_shipments", String.class))
+            .hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldKeepSegmentWhoseNameMatchesADifferentShipment() {
+        // Given
+        DriverManagerDataSource dataSource = auditDataSource();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        try (AuditJournal journal = new AuditJournal(dir, 64 * 1024, 8)) {
+            journal.append(record(1, START));
+            journal.roll();
+            jdbcTemplate.update(
+                "INSERT INTO audit_journal_shipments (segment_name, record_count, checksum) VALUES (?, 1, ?)",
+                journal.segmentName(1), journal.checksum(1) + 1);
+
+            // When
+            long shipped = shipper(journal, dataSource, true).shipPending();
+
+            // Then
+            assertThat(shipped).isZero();
+            assertThat(journal.unshippedSegments()).containsExactly(1L);
+            assertThat(journal.find("TICKET", 1L, START, START)).hasSize(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Long.class)).isZero();
+        }
+    }
+
+    private DriverManagerDataSource auditDataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:journal" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(
+            new ClassPathResource("db/migration/V4__create_audit_table.sql"),
+            new ClassPathResource("db/migration/V9__create_audit_journal_shipments.sql"),
+            new ClassPathResource("db/migration/V15__audit_journal_shipment_checksum.sql")
+        ).execute(dataSource);
+        return dataSource;
+    }
+
+    private AuditJournalShipper shipper(AuditJournal journal, DriverManagerDataSource dataSource, boolean delete) {
+        return new AuditJournalShipper(journal, new JdbcTemplate(dataSource),
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            Duration.ZERO, delete, new SimpleMeterRegistry());
+    }
+
+    private AuditRecord record(long entityId, LocalDateTime createdAt) {
+        return new AuditRecord("TICKET_CREATED", "TICKET", entityId, "SYSTEM",
+            null, "C" + entityId, "Ticket created \"" + entityId + "\"", createdAt);
+    }
+}
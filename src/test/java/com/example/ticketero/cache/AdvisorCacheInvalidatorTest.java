@@ -0,0 +1,94 @@
+package com.example.ticketero.cache;
+
+import com.example.ticketero.model.entity.Advisor;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AdvisorCacheInvalidatorTest {
+
+    private final List<CacheInvalidation> published = new ArrayList<>();
+    private CacheManager cacheManager;
+    private Cache entityCache;
+    private TransactionTemplate transactionTemplate;
+    private AdvisorCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.ADVISOR_COUNTS);
+        CacheInvalidationBus bus = published::add;
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of(
+            "cacheManager", cacheManager,
+            "bus", bus));
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        entityCache = mock(Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(entityCache);
+        invalidator = new AdvisorCacheInvalidator(
+            beans.getBeanProvider(CacheManager.class),
+            beans.getBeanProvider(CacheInvalidationBus.class),
+            entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(
+            new DriverManagerDataSource("jdbc:h2:mem:cache" + System.nanoTime(), "sa", "")));
+    }
+
+    @Test
+    void shouldClearCountsOnlyAfterCommitAndNotifyOtherNodes() {
+        // Given
+        org.springframework.cache.Cache counts = cacheManager.getCache(CacheNames.ADVISOR_COUNTS);
+        counts.put("CAJA", 2L);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            invalidator.advisorChanged(7L);
+            assertThat(counts.get("CAJA")).isNotNull();
+        });
+
+        // Then
+        assertThat(counts.get("CAJA")).isNull();
+        assertThat(published).containsExactly(new CacheInvalidation(CacheNames.ADVISORS, 7L));
+    }
+
+    @Test
+    void shouldKeepCountsWhenTransactionRollsBack() {
+        // Given
+        org.springframework.cache.Cache counts = cacheManager.getCache(CacheNames.ADVISOR_COUNTS);
+        counts.put("CAJA", 2L);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            invalidator.advisorChanged(7L);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(counts.get("CAJA")).isNotNull();
+    }
+
+    @Test
+    void shouldEvictEntityAndCountsOnRemoteInvalidation() {
+        // Given
+        org.springframework.cache.Cache counts = cacheManager.getCache(CacheNames.ADVISOR_COUNTS);
+        counts.put("CAJA", 2L);
+
+        // When
+        invalidator.onRemoteInvalidation(new CacheInvalidation(CacheNames.ADVISORS, 7L));
+
+        // Then
+        verify(entityCache).evict(Advisor.class, 7L);
+        assertThat(counts.get("CAJA")).isNull();
+    }
+}
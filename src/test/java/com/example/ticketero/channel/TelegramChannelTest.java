@@ -0,0 +1,98 @@
+package com.example.ticketero.channel;
+
+import com.example.ticketero.channel.stub.TelegramStubServer;
+import com.example.ticketero.config.TelegramConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TelegramChannelTest {
+
+    @Mock
+    private TelegramConfig telegramConfig;
+
+    @Mock
+    private ObjectProvider<TelegramStubServer> stubProvider;
+
+    private TelegramStubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    void shouldSendThroughStubAndReturnMessageId() throws Exception {
+        // Given
+        TelegramChannel channel = channelWithStub(0.0, 0.0);
+
+        // When
+        String first = channel.send("123456789", "hola");
+        String second = channel.send("123456789", "hola");
+
+        // Then
+        assertThat(first).isEqualTo("1");
+        assertThat(second).isEqualTo("2");
+        assertThat(stub.getAcceptedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportRetryAfterOnRateLimit() throws Exception {
+        // Given
+        TelegramChannel channel = channelWithStub(0.0, 1.0);
+
+        // When & Then
+        assertThatThrownBy(() -> channel.send("123456789", "hola"))
+            .isInstanceOf(NotificationChannelException.class)
+            .satisfies(e -> assertThat(((NotificationChannelException) e).getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(stub.getRateLimitedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailOnServerError() throws Exception {
+        // Given
+        TelegramChannel channel = channelWithStub(1.0, 0.0);
+
+        // When & Then
+        assertThatThrownBy(() -> channel.send("123456789", "hola"))
+            .isInstanceOf(NotificationChannelException.class)
+            .satisfies(e -> assertThat(((NotificationChannelException) e).isRateLimited()).isFalse());
+    }
+
+    @Test
+    void shouldParseRetryAfterAsSecondsOrHttpDate() {
+        // Given
+        Instant now = Instant.parse("2026-10-19T12:00:00Z");
+        String inThirtySeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.plusSeconds(30).atOffset(ZoneOffset.UTC));
+
+        // When & Then
+        assertThat(TelegramChannel.parseRetryAfter("7", now)).isEqualTo(7);
+        assertThat(TelegramChannel.parseRetryAfter(inThirtySeconds, now)).isEqualTo(30);
+        assertThat(TelegramChannel.parseRetryAfter("Mon, 19 Oct 2026 11:59:00 GMT", now)).isZero();
+        assertThat(TelegramChannel.parseRetryAfter("soon", now)).isNull();
+        assertThat(TelegramChannel.parseRetryAfter(null, now)).isNull();
+    }
+
+    private TelegramChannel channelWithStub(double errorRate, double rateLimitRate) throws Exception {
+        stub = new TelegramStubServer(0, 0, errorRate, rateLimitRate, 3);
+        stub.start();
+        when(stubProvider.getIfAvailable()).thenReturn(stub);
+        when(telegramConfig.getBotToken()).thenReturn("test-token");
+        return new TelegramChannel(telegramConfig, new RestTemplate(), stubProvider);
+    }
+}
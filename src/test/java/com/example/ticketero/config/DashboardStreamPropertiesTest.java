@@ -0,0 +1,33 @@
+package com.example.ticketero.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardStreamPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+        .withUserConfiguration(DashboardStreamProperties.class);
+
+    @Test
+    void shouldDerivePublishIntervalFromRate() {
+        contextRunner
+            .withPropertyValues("dashboard.stream.max-updates-per-second=3")
+            .run(context -> assertThat(context.getBean(DashboardStreamProperties.class).getPublishIntervalMs())
+                .isEqualTo(333));
+    }
+
+    @Test
+    void shouldRejectRatesThatYieldNoPeriod() {
+        contextRunner
+            .withPropertyValues("dashboard.stream.max-updates-per-second=0")
+            .run(context -> assertThat(context).hasFailed());
+        contextRunner
+            .withPropertyValues("dashboard.stream.max-updates-per-second=1001")
+            .run(context -> assertThat(context).hasFailed());
+    }
+}
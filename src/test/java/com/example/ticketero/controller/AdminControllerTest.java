@@ -0,0 +1,84 @@
+package com.example.ticketero.controller;
+
+import com.example.ticketero.service.AdvisorService;
+import com.example.ticketero.service.AssignmentService;
+import com.example.ticketero.service.AuditService;
+import com.example.ticketero.service.DashboardSnapshotService;
+import com.example.ticketero.service.DashboardSnapshotService.DashboardSnapshot;
+import com.example.ticketero.service.DashboardStreamService;
+import com.example.ticketero.service.TicketStatsService;
+import com.example.ticketero.service.WaitTimeAnalytics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+class AdminControllerTest {
+
+    private static final String ETAG = "\"abc-7\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AdvisorService advisorService;
+
+    @MockBean
+    private AssignmentService assignmentService;
+
+    @MockBean
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @MockBean
+    private DashboardStreamService dashboardStreamService;
+
+    @MockBean
+    private WaitTimeAnalytics waitTimeAnalytics;
+
+    @MockBean
+    private TicketStatsService ticketStatsService;
+
+    @MockBean
+    private AuditService auditService;
+
+    @Test
+    void shouldReturnPreSerializedDashboardWithEtag() throws Exception {
+        // Given
+        byte[] json = "{\"summary\":{}}".getBytes(StandardCharsets.UTF_8);
+        when(dashboardSnapshotService.currentEtag()).thenReturn(ETAG);
+        when(dashboardSnapshotService.getSnapshot()).thenReturn(new DashboardSnapshot(7, ETAG, null, json));
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/dashboard"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().bytes(json));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutBuildingSnapshot() throws Exception {
+        // Given
+        when(dashboardSnapshotService.currentEtag()).thenReturn(ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/admin/dashboard").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(content().bytes(new byte[0]));
+
+        verify(dashboardSnapshotService, never()).getSnapshot();
+    }
+}
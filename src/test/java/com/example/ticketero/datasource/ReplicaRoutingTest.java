@@ -0,0 +1,108 @@
+package com.example.ticketero.datasource;
+
+import com.example.ticketero.config.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTemplate;
+    private TransactionTemplate writeTemplate;
+    private ReplicaReads replicaReads;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary", "a", "nuevo");
+        DataSource replica = database("replica", "a");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replica, 2000, meterRegistry);
+        lagMonitor.recordLag(0);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        replicaReads = new ReplicaReads(
+            new StaticListableBeanFactory(Map.of("replicaLagMonitor", lagMonitor)).getBeanProvider(ReplicaLagMonitor.class),
+            transactionManager, properties);
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplicaAndWritesToPrimary() {
+        // When
+        String readTarget = readTemplate.execute(status -> target("a"));
+        String writeTarget = writeTemplate.execute(status -> target("a"));
+
+        // Then
+        assertThat(readTarget).isEqualTo("replica");
+        assertThat(writeTarget).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldReadFromPrimaryWhileReplicaIsLagging() {
+        // Given
+        lagMonitor.recordLag(5000);
+
+        // When
+        String readTarget = readTemplate.execute(status -> target("a"));
+
+        // Then
+        assertThat(readTarget).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldReadOwnWritesAndMissingRowsFromPrimary() {
+        // Given
+        writeTemplate.executeWithoutResult(status -> replicaReads.recordWrite("a"));
+
+        // When
+        Optional<String> ownWrite = readTemplate.execute(status -> replicaReads.find("a", () -> find("a")));
+        Optional<String> notYetReplicated = readTemplate.execute(status -> replicaReads.find("nuevo", () -> find("nuevo")));
+        Optional<String> missing = readTemplate.execute(status -> replicaReads.find("otro", () -> find("otro")));
+
+        // Then
+        assertThat(ownWrite).contains("primary");
+        assertThat(notYetReplicated).contains("primary");
+        assertThat(missing).isEmpty();
+    }
+
+    private String target(String key) {
+        return jdbcTemplate.queryForObject("SELECT target FROM marker WHERE id = ?", String.class, key);
+    }
+
+    private Optional<String> find(String key) {
+        return jdbcTemplate.queryForList("SELECT target FROM marker WHERE id = ?", String.class, key)
+            .stream().findFirst();
+    }
+
+    private static DataSource database(String target, String... keys) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + target + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (id VARCHAR(20) PRIMARY KEY, target VARCHAR(20) NOT NULL)");
+        for (String key : keys) {
+            jdbc.update("INSERT INTO marker (id, target) VALUES (?, ?)", key, target);
+        }
+        return dataSource;
+    }
+}
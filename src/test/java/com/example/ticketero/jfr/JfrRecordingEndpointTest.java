@@ -0,0 +1,80 @@
+package com.example.ticketero.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint();
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    void shouldNotPopulateEventsWithoutRecording() {
+        // Given
+        TicketCreatedEvent event = new TicketCreatedEvent();
+        event.begin();
+
+        // When
+        event.emit("C001", "CAJA", 1);
+
+        // Then
+        assertThat(event.isEnabled()).isFalse();
+        assertThat(event.ticketNumber).isNull();
+    }
+
+    @Test
+    void shouldRecordBusinessEventsAndDownloadRecording() throws Exception {
+        // Given
+        Map<String, Object> started = endpoint.start("default", null);
+        String file = (String) started.get("file");
+
+        // When
+        TicketCreatedEvent created = new TicketCreatedEvent();
+        created.begin();
+        created.emit("C001", "CAJA", 2);
+        TelegramSendEvent send = new TelegramSendEvent();
+        send.begin();
+        send.emit("CONFIRMATION", "C001", true);
+        Map<String, Object> stopped = endpoint.stop();
+        Resource download = endpoint.download(file);
+
+        // Then
+        assertThat(started).containsEntry("state", "RUNNING").containsEntry("settings", "default");
+        assertThat(stopped).containsEntry("state", "STOPPED").containsEntry("file", file);
+        assertThat(endpoint.download("other.jfr")).isNull();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(download.getFile().toPath()).stream()
+            .filter(event -> event.getEventType().getName().startsWith("ticketero."))
+            .toList();
+        assertThat(events).extracting(event -> event.getEventType().getName())
+            .containsExactly("ticketero.TicketCreated", "ticketero.TelegramSend");
+        assertThat(events.get(0).getString("ticketNumber")).isEqualTo("C001");
+        assertThat(events.get(0).getInt("queuePosition")).isEqualTo(2);
+        assertThat(events.get(1).getBoolean("success")).isTrue();
+    }
+
+    @Test
+    void shouldRejectSecondRecordingAndUnknownSettings() {
+        // Given
+        endpoint.start(null, 60L);
+
+        // When / Then
+        assertThat(endpoint.status()).containsEntry("settings", "profile");
+        assertThatThrownBy(() -> endpoint.start(null, null)).isInstanceOf(InvalidEndpointRequestException.class);
+        endpoint.stop();
+        assertThatThrownBy(() -> endpoint.start("nope", null)).isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
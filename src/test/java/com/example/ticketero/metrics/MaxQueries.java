@@ -0,0 +1,21 @@
+package com.example.ticketero.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Falla la prueba si el método de prueba ejecuta más sentencias SQL que {@link #value()}.
+ * Cuenta solo el cuerpo del método (no {@code @BeforeEach}), a través del DataSource envuelto
+ * por {@link SqlStatsDataSourcePostProcessor}, que la prueba debe importar.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+
+    int value();
+}
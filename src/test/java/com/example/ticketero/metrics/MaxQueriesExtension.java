@@ -0,0 +1,33 @@
+package com.example.ticketero.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Abre un alcance de {@link SqlStats} alrededor del método anotado con {@link MaxQueries}
+ * y, si se excede el máximo, falla listando las sentencias ejecutadas.
+ */
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStats.begin(true));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        try (SqlStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStats.class)) {
+            int max = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .orElseThrow()
+                .value();
+            if (stats.getCount() > max) {
+                throw new AssertionError("Expected at most " + max + " SQL statements but " + stats.getCount()
+                    + " were executed:\n  " + String.join("\n  ", stats.getStatements()));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.ticketero.metrics;
+
+import com.example.ticketero.model.entity.Message;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.MessageType;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(SqlStatsDataSourcePostProcessor.class)
+class SqlStatsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private UUID uuid;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Ticket ticket = entityManager.persist(Ticket.builder()
+                .ticketNumber("C00" + i)
+                .customerRut("1234567" + i + "-9")
+                .queueType(QueueType.CAJA)
+                .build());
+            entityManager.persist(Message.builder()
+                .ticket(ticket)
+                .messageType(MessageType.CONFIRMATION)
+                .build());
+            uuid = ticket.getUuid();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxQueries(1)
+    void shouldReadTicketViewWithinBudget() {
+        // When / Then
+        assertThat(ticketRepository.findViewByUuid(uuid)).isPresent();
+    }
+
+    @Test
+    void shouldExposeNPlusOneWhenWalkingLazyMessages() {
+        // Given
+        List<Ticket> waiting;
+        long messages;
+
+        // When
+        try (SqlStats stats = SqlStats.begin(true)) {
+            waiting = ticketRepository.findAllWaiting();
+            messages = waiting.stream().mapToLong(ticket -> ticket.getMessages().size()).sum();
+
+            // Then: una consulta por la cola más una por cada ticket
+            assertThat(messages).isEqualTo(3);
+            assertThat(stats.getCount()).isEqualTo(1 + waiting.size());
+            assertThat(stats.getStatements()).filteredOn(sql -> sql.contains("messages")).hasSize(waiting.size());
+        }
+    }
+
+    @Test
+    void shouldCountNestedScopesIndependently() {
+        // When
+        try (SqlStats outer = SqlStats.begin(false)) {
+            ticketRepository.findViewByUuid(uuid);
+            try (SqlStats inner = SqlStats.begin(false)) {
+                ticketRepository.findViewByTicketNumber("C000");
+
+                // Then
+                assertThat(inner.getCount()).isEqualTo(1);
+            }
+            assertThat(outer.getCount()).isEqualTo(2);
+            assertThat(outer.getTime()).isPositive();
+        }
+    }
+}
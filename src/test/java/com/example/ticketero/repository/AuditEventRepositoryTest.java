@@ -0,0 +1,97 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.dto.response.AuditEventResponse;
+import com.example.ticketero.model.entity.AuditEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+class AuditEventRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 8, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 12; i++) {
+            AuditEvent event = entityManager.persist(AuditEvent.builder()
+                .eventType(i % 3 == 0 ? "TICKET_COMPLETED" : "TICKET_CREATED")
+                .entityType("TICKET")
+                .entityId((long) (i % 4))
+                .actor("SYSTEM")
+                .build());
+            entityManager.flush();
+            // Pares de eventos con la misma fecha para ejercitar el desempate por id
+            entityManager.getEntityManager()
+                .createQuery("UPDATE AuditEvent e SET e.createdAt = :createdAt WHERE e.id = :id")
+                .setParameter("createdAt", START.plusMinutes(i / 2))
+                .setParameter("id", event.getId())
+                .executeUpdate();
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldWalkAllPagesWithoutGapsOrDuplicates() {
+        // Given
+        List<AuditEventResponse> seen = new ArrayList<>();
+        AuditEventResponse last = null;
+
+        // When
+        do {
+            List<AuditEventResponse> page = auditEventRepository.findPage(new AuditEventQuery(
+                null, null, null, null, null, null,
+                last != null ? last.createdAt() : null, last != null ? last.id() : null, 5));
+            seen.addAll(page);
+            last = page.size() == 5 ? page.get(4) : null;
+        } while (last != null);
+
+        // Then
+        assertThat(seen).hasSize(12);
+        assertThat(seen).extracting(AuditEventResponse::id).doesNotHaveDuplicates();
+        for (int i = 1; i < seen.size(); i++) {
+            AuditEventResponse previous = seen.get(i - 1);
+            AuditEventResponse current = seen.get(i);
+            assertThat(current.createdAt()).isBeforeOrEqualTo(previous.createdAt());
+            if (current.createdAt().equals(previous.createdAt())) {
+                assertThat(current.id()).isLessThan(previous.id());
+            }
+        }
+    }
+
+    @Test
+    void shouldApplyFiltersTogetherWithCursor() {
+        // Given
+        List<AuditEventResponse> first = auditEventRepository.findPage(new AuditEventQuery(
+            "TICKET", 0L, null, null, START, START.plusHours(1), null, null, 2));
+
+        // When
+        AuditEventResponse last = first.get(1);
+        List<AuditEventResponse> second = auditEventRepository.findPage(new AuditEventQuery(
+            "TICKET", 0L, null, null, START, START.plusHours(1), last.createdAt(), last.id(), 2));
+
+        // Then
+        assertThat(first).extracting(AuditEventResponse::entityId).containsOnly(0L);
+        assertThat(second).singleElement().satisfies(event -> {
+            assertThat(event.entityId()).isZero();
+            assertThat(event.createdAt()).isEqualTo(START);
+            assertThat(event.eventType()).isEqualTo("TICKET_COMPLETED");
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.AdvisorStatus;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.projection.AdvisorView;
+import com.example.ticketero.service.DashboardAggregator;
+import com.example.ticketero.service.DashboardAggregator.DashboardCounts;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asegura que la reconciliación del dashboard usa exactamente tres consultas agrupadas
+ * y que el listado de asesores es una sola consulta, sin importar cuántos tickets existan.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import(DashboardAggregator.class)
+class DashboardQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DashboardAggregator dashboardAggregator;
+
+    @Autowired
+    private AdvisorRepository advisorRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (QueueType queueType : QueueType.values()) {
+            Advisor advisor = entityManager.persist(Advisor.builder()
+                .name("Asesor " + queueType)
+                .moduleNumber(queueType.ordinal() + 1)
+                .queueType(queueType)
+                .build());
+            for (int i = 0; i < 5; i++) {
+                entityManager.persist(Ticket.builder()
+                    .ticketNumber(queueType.getPrefix() + queueType.ordinal() + i)
+                    .customerRut("1234567" + i + "-9")
+                    .queueType(queueType)
+                    .estimatedWaitMinutes(10)
+                    .build());
+            }
+            advisor.setStatus(AdvisorStatus.BUSY);
+        }
+        Ticket old = entityManager.persist(Ticket.builder()
+            .ticketNumber("C-OLD")
+            .customerRut("11111111-1")
+            .queueType(QueueType.CAJA)
+            .build());
+        entityManager.flush();
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Ticket t SET t.createdAt = :yesterday WHERE t.id = :id")
+            .setParameter("yesterday", LocalDateTime.now().minusDays(1))
+            .setParameter("id", old.getId())
+            .executeUpdate();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldReconcileWithThreeGroupedQueries() {
+        // When
+        dashboardAggregator.reconcile();
+        DashboardCounts counts = dashboardAggregator.snapshot();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(counts.totalToday()).isEqualTo(20);
+        assertThat(counts.activeTickets(QueueType.CAJA, TicketStatus.EN_ESPERA)).isEqualTo(6);
+        assertThat(counts.todayTickets(TicketStatus.EN_ESPERA)).isEqualTo(20);
+        assertThat(counts.averageWaitToday()).isEqualTo(10.0);
+        assertThat(counts.advisors(AdvisorStatus.BUSY)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldListAdvisorsWithSingleQueryRegardlessOfHistory() {
+        // Given
+        Advisor advisor = advisorRepository.findByQueueType(QueueType.CAJA).get(0);
+        for (int i = 0; i < 10; i++) {
+            entityManager.persist(Ticket.builder()
+                .ticketNumber("C-HIST" + i)
+                .customerRut("22222222-" + i)
+                .queueType(QueueType.CAJA)
+                .advisor(advisor)
+                .build());
+        }
+        Ticket current = entityManager.persist(Ticket.builder()
+            .ticketNumber("C-CURRENT")
+            .customerRut("33333333-3")
+            .queueType(QueueType.CAJA)
+            .advisor(advisor)
+            .build());
+        advisor.setCurrentTicket(current);
+        entityManager.flush();
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Ticket t SET t.status = CASE WHEN t.id = :currentId THEN :attending ELSE :completed END"
+                + " WHERE t.advisor = :advisor")
+            .setParameter("currentId", current.getId())
+            .setParameter("attending", TicketStatus.ATENDIENDO)
+            .setParameter("completed", TicketStatus.COMPLETADO)
+            .setParameter("advisor", advisor)
+            .executeUpdate();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        List<AdvisorView> advisors = advisorRepository.findAllViews();
+        AdvisorView listed = advisors.stream().filter(a -> a.id().equals(advisor.getId())).findFirst().orElseThrow();
+
+        // Then
+        assertThat(listed.currentTicketNumber()).isEqualTo("C-CURRENT");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(advisors).hasSize(QueueType.values().length);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
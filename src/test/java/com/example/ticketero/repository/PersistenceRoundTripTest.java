@@ -0,0 +1,95 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.entity.AuditEvent;
+import com.example.ticketero.model.entity.Message;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.MessageType;
+import com.example.ticketero.model.enums.QueueType;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mide las idas y vueltas a la base al crear tickets con sus mensajes en una sola transacción.
+ * Con secuencias pooled-lo y lotes JDBC, el número de sentencias no crece con cada fila;
+ * {@link AuditEvent}, que sigue con IDENTITY, sirve de referencia: una sentencia por fila.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class PersistenceRoundTripTest {
+
+    private static final int TICKETS = 200;
+    private static final int ROWS = TICKETS * (1 + MessageType.values().length);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void bulkCreate_usesBatchedInsertsAndPooledSequences() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        for (int i = 0; i < TICKETS; i++) {
+            Ticket ticket = entityManager.persist(Ticket.builder()
+                .ticketNumber("C" + i)
+                .customerRut("12345678-9")
+                .queueType(QueueType.CAJA)
+                .estimatedWaitMinutes(10)
+                .build());
+            for (MessageType messageType : MessageType.values()) {
+                entityManager.persist(Message.builder()
+                    .ticket(ticket)
+                    .messageType(messageType)
+                    .build());
+            }
+        }
+        entityManager.flush();
+
+        // Then
+        long statements = statistics.getPrepareStatementCount();
+        log.info("Persisted {} rows with {} prepared statements", ROWS, statements);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statements).isLessThanOrEqualTo(ROWS / 25);
+    }
+
+    @Test
+    void bulkCreate_withIdentityPreparesOneStatementPerRow() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(AuditEvent.builder()
+                .eventType("TICKET_CREATED")
+                .entityType("TICKET")
+                .entityId((long) i)
+                .actor("SYSTEM")
+                .build());
+        }
+        entityManager.flush();
+
+        // Then
+        long statements = statistics.getPrepareStatementCount();
+        log.info("Persisted {} IDENTITY rows with {} prepared statements", ROWS, statements);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statements).isEqualTo(ROWS);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.projection.TicketView;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Las lecturas de ticket por UUID y por número salen de un único SELECT con el asesor unido,
+ * sin hidratar entidades; el camino por entidad necesita dos sentencias y dos entidades.
+ * La comparación de tiempos está en {@code TicketReadBenchmark} (src/jmh).
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class TicketProjectionTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private Statistics statistics;
+    private UUID uuid;
+
+    @BeforeEach
+    void setUp() {
+        Advisor advisor = entityManager.persist(Advisor.builder()
+            .name("Ana")
+            .moduleNumber(3)
+            .queueType(QueueType.CAJA)
+            .build());
+        Ticket ticket = entityManager.persist(Ticket.builder()
+            .ticketNumber("C123456")
+            .customerRut("12345678-9")
+            .queueType(QueueType.CAJA)
+            .advisor(advisor)
+            .build());
+        entityManager.flush();
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Ticket t SET t.status = :status WHERE t.id = :id")
+            .setParameter("status", TicketStatus.ATENDIENDO)
+            .setParameter("id", ticket.getId())
+            .executeUpdate();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        uuid = ticket.getUuid();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldReadTicketByUuidWithSingleStatementAndNoEntities() {
+        // When
+        TicketView view = ticketRepository.findViewByUuid(uuid).orElseThrow();
+
+        // Then
+        assertThat(view.advisorName()).isEqualTo("Ana");
+        assertThat(view.moduleNumber()).isEqualTo(3);
+        assertThat(view.status()).isEqualTo(TicketStatus.ATENDIENDO);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReadLatestTicketByNumberWithSingleStatementAndNoEntities() {
+        // When
+        TicketView view = ticketRepository.findViewByTicketNumber("C123456").orElseThrow();
+
+        // Then
+        assertThat(view.uuid()).isEqualTo(uuid);
+        assertThat(view.advisorName()).isEqualTo("Ana");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReadTicketEntityWithAdvisorInTwoStatements() {
+        // When
+        Ticket ticket = ticketRepository.findByUuid(uuid).orElseThrow();
+        String advisorName = ticket.getAdvisor().getName();
+
+        // Then
+        assertThat(advisorName).isEqualTo("Ana");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2);
+    }
+}
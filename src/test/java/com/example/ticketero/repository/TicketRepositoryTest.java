@@ -0,0 +1,72 @@
+package com.example.ticketero.repository;
+
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+class TicketRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        base = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void shouldOnlyConsiderWaitingTicketsOfTheQueueInArrivalOrder() {
+        // Given
+        persist("C1", QueueType.CAJA, TicketStatus.COMPLETADO, 0);
+        persist("C2", QueueType.CAJA, TicketStatus.ATENDIENDO, 1);
+        Ticket first = persist("C3", QueueType.CAJA, TicketStatus.EN_ESPERA, 2);
+        persist("E1", QueueType.EMPRESAS, TicketStatus.EN_ESPERA, 3);
+        Ticket last = persist("C4", QueueType.CAJA, TicketStatus.EN_ESPERA, 4);
+
+        // When
+        Optional<Ticket> next = ticketRepository.findFirstWaitingByQueueType(QueueType.CAJA);
+        long ahead = ticketRepository.countTicketsAheadInQueue(QueueType.CAJA, base.plusMinutes(4));
+
+        // Then
+        assertThat(next).map(Ticket::getId).contains(first.getId());
+        assertThat(ahead).isEqualTo(1);
+        assertThat(ticketRepository.findAllWaiting())
+            .extracting(Ticket::getTicketNumber)
+            .containsExactly("C3", "C4", "E1");
+    }
+
+    private Ticket persist(String number, QueueType queueType, TicketStatus status, int minutes) {
+        Ticket ticket = entityManager.persist(Ticket.builder()
+            .ticketNumber(number)
+            .customerRut("12345678-9")
+            .queueType(queueType)
+            .build());
+        entityManager.flush();
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Ticket t SET t.createdAt = :createdAt, t.status = :status WHERE t.id = :id")
+            .setParameter("createdAt", base.plusMinutes(minutes))
+            .setParameter("status", status)
+            .setParameter("id", ticket.getId())
+            .executeUpdate();
+        return ticket;
+    }
+}
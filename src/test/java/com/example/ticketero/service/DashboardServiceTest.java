@@ -1,15 +1,19 @@
 package com.example.ticketero.service;
 
+import com.example.ticketero.metrics.LifecycleMetrics;
 import com.example.ticketero.model.dto.response.DashboardResponse;
+import com.example.ticketero.model.dto.response.QueueStats;
 import com.example.ticketero.model.entity.*;
 import com.example.ticketero.model.enums.AdvisorStatus;
 import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.model.enums.TicketStatus;
 import com.example.ticketero.repository.AdvisorRepository;
 import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.repository.projection.AdvisorStatusCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -17,9 +21,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DashboardServiceTest {
@@ -33,9 +35,28 @@ class DashboardServiceTest {
     @Mock
     private AdvisorService advisorService;
 
-    @InjectMocks
+    private DashboardAggregator dashboardAggregator;
+
     private DashboardService dashboardService;
 
+    private Advisor advisor1;
+
+    @BeforeEach
+    void setUp() {
+        advisor1 = Advisor.builder()
+            .id(1L)
+            .name("Test Advisor")
+            .status(AdvisorStatus.AVAILABLE)
+            .queueType(QueueType.CAJA)
+            .build();
+
+        when(advisorRepository.countGroupedByQueueTypeAndStatus())
+            .thenReturn(List.of(advisorCount(QueueType.CAJA, AdvisorStatus.AVAILABLE, 1)));
+        dashboardAggregator = new DashboardAggregator(ticketRepository, advisorRepository);
+        dashboardAggregator.reconcile();
+        dashboardService = new DashboardService(dashboardAggregator, advisorService, new LifecycleMetrics(new SimpleMeterRegistry()));
+    }
+
     @Test
     void shouldGenerateDashboardSuccessfully() {
         // Given
@@ -47,17 +68,7 @@ class DashboardServiceTest {
             .createdAt(LocalDateTime.now())
             .build();
 
-        Advisor advisor1 = Advisor.builder()
-            .id(1L)
-            .name("Test Advisor")
-            .status(AdvisorStatus.AVAILABLE)
-            .queueType(QueueType.CAJA)
-            .build();
-
-        when(ticketRepository.findAll()).thenReturn(List.of(ticket1));
-        when(advisorRepository.findAll()).thenReturn(List.of(advisor1));
-        when(ticketRepository.countByStatusAndQueueType(any(), any())).thenReturn(1L);
-        when(advisorRepository.countByStatusAndQueueType(any(), any())).thenReturn(1L);
+        dashboardAggregator.onTicketCreated(ticket1);
         when(advisorService.getAllAdvisors()).thenReturn(List.of());
 
         // When
@@ -66,7 +77,56 @@ class DashboardServiceTest {
         // Then
         assertThat(dashboard).isNotNull();
         assertThat(dashboard.summary()).isNotNull();
+        assertThat(dashboard.summary().totalTicketsToday()).isEqualTo(1);
+        assertThat(dashboard.summary().ticketsWaiting()).isEqualTo(1);
+        assertThat(dashboard.summary().advisorsAvailable()).isEqualTo(1);
+        assertThat(dashboard.summary().averageWaitTime()).isEqualTo(15.0);
         assertThat(dashboard.queueStats()).hasSize(4); // 4 queue types
         assertThat(dashboard.lastUpdated()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReflectTransitionsWithoutQueryingTickets() {
+        // Given
+        Ticket ticket = Ticket.builder()
+            .id(1L)
+            .status(TicketStatus.EN_ESPERA)
+            .queueType(QueueType.CAJA)
+            .createdAt(LocalDateTime.now())
+            .build();
+        when(advisorService.getAllAdvisors()).thenReturn(List.of());
+        clearInvocations(ticketRepository, advisorRepository);
+
+        // When
+        dashboardAggregator.onTicketCreated(ticket);
+        dashboardAggregator.onTicketStatusChanged(ticket, TicketStatus.EN_ESPERA, TicketStatus.ATENDIENDO);
+        dashboardAggregator.onAdvisorStatusChanged(advisor1, AdvisorStatus.AVAILABLE, AdvisorStatus.BUSY);
+        DashboardResponse dashboard = dashboardService.getDashboard();
+
+        // Then
+        QueueStats caja = dashboard.queueStats().get(0);
+        assertThat(caja.waiting()).isZero();
+        assertThat(caja.advisorsBusy()).isEqualTo(1);
+        assertThat(dashboard.summary().ticketsInProgress()).isEqualTo(1);
+        verifyNoInteractions(ticketRepository, advisorRepository);
+    }
+
+    private AdvisorStatusCount advisorCount(QueueType queueType, AdvisorStatus status, long total) {
+        return new AdvisorStatusCount() {
+            @Override
+            public QueueType getQueueType() {
+                return queueType;
+            }
+
+            @Override
+            public AdvisorStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
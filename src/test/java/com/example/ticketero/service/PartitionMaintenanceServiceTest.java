@@ -0,0 +1,67 @@
+package com.example.ticketero.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionMaintenanceServiceTest {
+
+    private static final String PARTITION = "tickets_y2020m01";
+
+    private JdbcTemplate jdbcTemplate;
+    private PartitionMaintenanceService partitionMaintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:partitions" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE " + PARTITION + " (id BIGINT PRIMARY KEY, status VARCHAR(20) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE messages (id BIGINT PRIMARY KEY, ticket_id BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE advisors (id BIGINT PRIMARY KEY, current_ticket_id BIGINT)");
+        jdbcTemplate.update("INSERT INTO " + PARTITION + " (id, status) VALUES (1, 'COMPLETADO'), (2, 'COMPLETADO')");
+        jdbcTemplate.update("INSERT INTO messages (id, ticket_id) VALUES (1, 99)");
+        jdbcTemplate.update("INSERT INTO advisors (id, current_ticket_id) VALUES (1, NULL)");
+        partitionMaintenanceService = new PartitionMaintenanceService(jdbcTemplate);
+    }
+
+    @Test
+    void shouldAllowDetachingPartitionWithoutActiveOrReferencedTickets() {
+        // When
+        String inUse = partitionMaintenanceService.inUseBy("tickets", PARTITION);
+
+        // Then
+        assertThat(inUse).isNull();
+    }
+
+    @Test
+    void shouldRefuseDetachingPartitionReferencedByMessagesOrAdvisors() {
+        // Given
+        jdbcTemplate.update("INSERT INTO messages (id, ticket_id) VALUES (2, 1)");
+
+        // When
+        String referencedByMessage = partitionMaintenanceService.inUseBy("tickets", PARTITION);
+        jdbcTemplate.update("DELETE FROM messages WHERE ticket_id = 1");
+        jdbcTemplate.update("UPDATE advisors SET current_ticket_id = 2 WHERE id = 1");
+        String referencedByAdvisor = partitionMaintenanceService.inUseBy("tickets", PARTITION);
+
+        // Then
+        assertThat(referencedByMessage).isEqualTo("messages");
+        assertThat(referencedByAdvisor).isEqualTo("advisors.current_ticket_id");
+    }
+
+    @Test
+    void shouldRefuseDetachingPartitionWithActiveTickets() {
+        // Given
+        jdbcTemplate.update("INSERT INTO " + PARTITION + " (id, status) VALUES (3, 'EN_ESPERA')");
+
+        // When
+        String inUse = partitionMaintenanceService.inUseBy("tickets", PARTITION);
+
+        // Then
+        assertThat(inUse).isEqualTo("active tickets");
+    }
+}
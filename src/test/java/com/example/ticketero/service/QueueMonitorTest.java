@@ -0,0 +1,123 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import com.example.ticketero.repository.AdvisorRepository;
+import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.repository.projection.WaitingTicket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class QueueMonitorTest {
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LocalDateTime now;
+    private QueueMonitor queueMonitor;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        DashboardAggregator aggregator = new DashboardAggregator(ticketRepository, mock(AdvisorRepository.class));
+        queueMonitor = new QueueMonitor(ticketRepository, aggregator, meterRegistry);
+    }
+
+    @Test
+    void shouldServeGaugesFromMemoryAndCountTransitions() {
+        // Given
+        when(ticketRepository.findWaitingTickets()).thenReturn(List.of(
+            new WaitingTicket(1L, QueueType.CAJA, now.minusMinutes(25)),
+            new WaitingTicket(2L, QueueType.CAJA, now.minusMinutes(10))
+        ));
+        queueMonitor.reconcile();
+        clearInvocations(ticketRepository);
+        Ticket oldest = ticket(1L, QueueType.CAJA, now.minusMinutes(25));
+        Ticket arrival = ticket(3L, QueueType.EMPRESAS, now.minusMinutes(5));
+
+        // When
+        queueMonitor.onTicketCreated(arrival);
+        queueMonitor.onTicketStatusChanged(oldest, TicketStatus.EN_ESPERA, TicketStatus.ATENDIENDO);
+        queueMonitor.onTicketStatusChanged(oldest, TicketStatus.ATENDIENDO, TicketStatus.COMPLETADO);
+        // Un scrape completo: lee todos los medidores
+        meterRegistry.getMeters().forEach(meter -> meter.measure().forEach(measurement -> measurement.getValue()));
+
+        // Then
+        assertThat(waiting(QueueType.CAJA)).isEqualTo(1);
+        assertThat(oldestWait(QueueType.CAJA)).isCloseTo(10 * 60, within(5.0));
+        assertThat(oldestWait(QueueType.EMPRESAS)).isCloseTo(5 * 60, within(5.0));
+        assertThat(oldestWait(QueueType.GERENCIA)).isZero();
+        assertThat(meterRegistry.get("ticketero.queue.arrivals").tag("queue_type", "EMPRESAS").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("ticketero.queue.served").tag("queue_type", "CAJA").counter().count())
+            .isEqualTo(1);
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void shouldKeepTransitionsCommittedWhileReconciling() {
+        // Given: la lectura de la reconciliación aún ve el ticket 1 en espera y no ve el 3
+        Ticket served = ticket(1L, QueueType.CAJA, now.minusMinutes(40));
+        Ticket arrival = ticket(3L, QueueType.CAJA, now.minusMinutes(1));
+        queueMonitor.onTicketCreated(served);
+        when(ticketRepository.findWaitingTickets()).thenAnswer(invocation -> {
+            // Transiciones confirmadas en este nodo durante la lectura
+            queueMonitor.onTicketStatusChanged(served, TicketStatus.EN_ESPERA, TicketStatus.ATENDIENDO);
+            queueMonitor.onTicketCreated(arrival);
+            return List.of(
+                new WaitingTicket(1L, QueueType.CAJA, now.minusMinutes(40)),
+                new WaitingTicket(2L, QueueType.CAJA, now.minusMinutes(20))
+            );
+        });
+
+        // When
+        queueMonitor.reconcile();
+
+        // Then: el ticket 2 llegó por otro nodo, el 1 no reaparece y el 3 no se pierde
+        assertThat(waiting(QueueType.CAJA)).isEqualTo(2);
+        assertThat(oldestWait(QueueType.CAJA)).isCloseTo(20 * 60, within(5.0));
+    }
+
+    @Test
+    void shouldDropTicketsServedOnOtherNodesOnReconcile() {
+        // Given
+        queueMonitor.onTicketCreated(ticket(1L, QueueType.GERENCIA, now.minusMinutes(50)));
+        queueMonitor.onTicketCreated(ticket(2L, QueueType.GERENCIA, now.minusMinutes(15)));
+        when(ticketRepository.findWaitingTickets()).thenReturn(List.of(
+            new WaitingTicket(2L, QueueType.GERENCIA, now.minusMinutes(15))
+        ));
+
+        // When
+        double before = oldestWait(QueueType.GERENCIA);
+        queueMonitor.reconcile();
+
+        // Then
+        assertThat(before).isCloseTo(50 * 60, within(5.0));
+        assertThat(oldestWait(QueueType.GERENCIA)).isCloseTo(15 * 60, within(5.0));
+        assertThat(waiting(QueueType.GERENCIA)).isEqualTo(1);
+    }
+
+    private Ticket ticket(Long id, QueueType queueType, LocalDateTime createdAt) {
+        return Ticket.builder().id(id).queueType(queueType).createdAt(createdAt).build();
+    }
+
+    private double waiting(QueueType queueType) {
+        return meterRegistry.get("ticketero.queue.waiting").tag("queue_type", queueType.name()).gauge().value();
+    }
+
+    private double oldestWait(QueueType queueType) {
+        return meterRegistry.get("ticketero.queue.oldest.wait").tag("queue_type", queueType.name()).gauge().value();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.config.RetentionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetentionServiceTest {
+
+    @TempDir
+    Path archiveDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:retention" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE audit_events (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                event_type VARCHAR(50) NOT NULL,
+                created_at TIMESTAMP NOT NULL
+            )
+            """);
+
+        RetentionProperties properties = new RetentionProperties();
+        properties.setArchiveDir(archiveDir.toString());
+        meterRegistry = new SimpleMeterRegistry();
+        retentionService = new RetentionService(
+            jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            properties,
+            meterRegistry
+        );
+    }
+
+    @Test
+    void shouldDeleteOnlyRowsOlderThanCutoffInBatches() {
+        // Given
+        insertEvents(25, LocalDateTime.now().minusDays(40));
+        insertEvents(5, LocalDateTime.now().minusDays(1));
+
+        // When
+        long deleted = retentionService.purge("audit_events", policy(30, 10, false));
+
+        // Then
+        assertThat(deleted).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Long.class)).isEqualTo(5);
+        assertThat(meterRegistry.counter("ticketero.retention.batches", "table", "audit_events").count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldPurgeExpiredRowsWhoseIdsAreNotInCreationOrder() {
+        // Given: bloques pooled-lo de dos nodos; el id más bajo es el más reciente
+        insertEvent(1, LocalDateTime.now().minusDays(1));
+        insertEvent(2, LocalDateTime.now().minusDays(2));
+        for (long id = 51; id <= 57; id++) {
+            insertEvent(id, LocalDateTime.now().minusDays(40));
+        }
+        insertEvent(101, LocalDateTime.now().minusDays(35));
+
+        // When
+        long deleted = retentionService.purge("audit_events", policy(30, 3, false));
+
+        // Then
+        assertThat(deleted).isEqualTo(8);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM audit_events ORDER BY id", Long.class))
+            .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldArchiveRowsBeforeDeleting() throws Exception {
+        // Given
+        insertEvents(3, LocalDateTime.now().minusDays(40));
+
+        // When
+        retentionService.purge("audit_events", policy(30, 2, true));
+
+        // Then
+        try (var files = Files.list(archiveDir)) {
+            assertThat(files.filter(f -> f.toString().endsWith(".csv.gz")).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldRejectTablesWithoutPolicySupport() {
+        assertThatThrownBy(() -> retentionService.purge("tickets", policy(30, 10, false)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void insertEvents(int count, LocalDateTime createdAt) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO audit_events (event_type, created_at) VALUES (?, ?)",
+                "TICKET_CREATED", Timestamp.valueOf(createdAt));
+        }
+    }
+
+    private void insertEvent(long id, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO audit_events (id, event_type, created_at) VALUES (?, ?, ?)",
+            id, "TICKET_CREATED", Timestamp.valueOf(createdAt));
+    }
+
+    private RetentionProperties.Policy policy(int days, int batchSize, boolean archive) {
+        RetentionProperties.Policy policy = new RetentionProperties.Policy();
+        policy.setRetentionDays(days);
+        policy.setBatchSize(batchSize);
+        policy.setPauseMillis(0);
+        policy.setArchive(archive);
+        return policy;
+    }
+}
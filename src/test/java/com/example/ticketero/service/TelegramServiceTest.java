@@ -1,37 +1,51 @@
 package com.example.ticketero.service;
 
-import com.example.ticketero.config.TelegramConfig;
+import com.example.ticketero.channel.NotificationChannel;
+import com.example.ticketero.exception.InvalidMessageParamsException;
+import com.example.ticketero.metrics.LifecycleMetrics;
 import com.example.ticketero.model.entity.*;
 import com.example.ticketero.model.enums.MessageType;
 import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.repository.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TelegramServiceTest {
 
     @Mock
-    private TelegramConfig telegramConfig;
-
-    @Mock
-    private RestTemplate restTemplate;
+    private NotificationChannel notificationChannel;
 
     @Mock
     private MessageRepository messageRepository;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private TelegramService telegramService;
 
     @BeforeEach
     void setUp() {
-        telegramService = new TelegramService(telegramConfig, restTemplate, messageRepository, "123456789");
+        telegramService = new TelegramService(notificationChannel, messageRepository, "123456789",
+            new LifecycleMetrics(meterRegistry));
     }
 
     @Test
@@ -49,17 +63,63 @@ class TelegramServiceTest {
             .id(1L)
             .ticket(ticket)
             .messageType(MessageType.CONFIRMATION)
-            .content("Test message")
             .build();
 
         when(messageRepository.save(any(Message.class))).thenReturn(savedMessage);
-        when(telegramConfig.getBotToken()).thenReturn("");
+        when(notificationChannel.send(any(), any())).thenReturn("1");
 
         // When
         telegramService.sendConfirmationMessage(ticket);
 
         // Then
         verify(messageRepository).save(any(Message.class));
+        verify(notificationChannel).send(eq("123456789"), contains("C123456"));
+        assertThat(meterRegistry.get("ticketero.notification.send")
+            .tags("message_type", "CONFIRMATION", "outcome", "success")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordTicketContextWhenSendingRenderedText() throws Exception {
+        // Given
+        when(notificationChannel.send(any(), any())).thenReturn("1");
+        Path file = Files.createTempFile("telegram-send", ".jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("ticketero.TelegramSend").withThreshold(Duration.ZERO);
+            recording.start();
+            telegramService.sendMessage("123456789", "texto", MessageType.PRE_NOTICE, "C123456");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("messageType")).isEqualTo("PRE_NOTICE");
+            assertThat(event.getString("ticketNumber")).isEqualTo("C123456");
+            assertThat(event.getBoolean("success")).isTrue();
+        });
+        assertThat(meterRegistry.get("ticketero.notification.send")
+            .tags("message_type", "PRE_NOTICE", "outcome", "success")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeFailedRenderedTextSends() {
+        // Given
+        when(notificationChannel.send(any(), any())).thenThrow(new IllegalStateException("Telegram API unavailable"));
+
+        // When
+        String messageId = telegramService.sendMessage("123456789", "texto", MessageType.TURN_ACTIVE, "C123456");
+
+        // Then
+        assertThat(messageId).isNull();
+        assertThat(meterRegistry.get("ticketero.notification.send")
+            .tags("message_type", "TURN_ACTIVE", "outcome", "failed")
+            .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -77,4 +137,38 @@ class TelegramServiceTest {
         // Then
         verify(messageRepository, never()).save(any(Message.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRebuildIncompleteTurnActiveParamsFromTicket() {
+        // Given: fila migrada por V6 sin asesor en el LEFT JOIN
+        Ticket ticket = Ticket.builder()
+            .ticketNumber("C123456")
+            .queueType(QueueType.CAJA)
+            .advisor(Advisor.builder().name("Ana").moduleNumber(3).build())
+            .build();
+        Message message = Message.builder().ticket(ticket).messageType(MessageType.TURN_ACTIVE).params("null|null").build();
+
+        // When
+        String text = telegramService.getMessageText(message);
+
+        // Then
+        assertThat(text).contains("Asesor: Ana").contains("Módulo: 3");
+    }
+
+    @Test
+    void shouldRejectParamsThatCannotBeRebuilt() {
+        // Given
+        Ticket ticket = Ticket.builder()
+            .ticketNumber("C123456")
+            .queueType(QueueType.CAJA)
+            .build();
+        Message turnActive = Message.builder().ticket(ticket).messageType(MessageType.TURN_ACTIVE).params(null).build();
+        Message confirmation = Message.builder().ticket(ticket).messageType(MessageType.CONFIRMATION).params("5").build();
+
+        // When / Then
+        assertThatThrownBy(() -> telegramService.getMessageText(turnActive))
+            .isInstanceOf(InvalidMessageParamsException.class);
+        assertThatThrownBy(() -> telegramService.getMessageText(confirmation))
+            .isInstanceOf(InvalidMessageParamsException.class);
+    }
+}
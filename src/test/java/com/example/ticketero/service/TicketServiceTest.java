@@ -1,5 +1,7 @@
 package com.example.ticketero.service;
 
+import com.example.ticketero.datasource.ReplicaReads;
+import com.example.ticketero.metrics.LifecycleMetrics;
 import com.example.ticketero.model.dto.request.CreateTicketRequest;
 import com.example.ticketero.model.dto.response.QueuePositionResponse;
 import com.example.ticketero.model.dto.response.TicketResponse;
@@ -8,16 +10,21 @@ import com.example.ticketero.model.enums.QueueType;
 import com.example.ticketero.model.enums.TicketStatus;
 import com.example.ticketero.repository.AdvisorRepository;
 import com.example.ticketero.repository.TicketRepository;
+import com.example.ticketero.repository.projection.TicketView;
+import com.example.ticketero.util.TicketNumberGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,14 +45,35 @@ class TicketServiceTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private DashboardAggregator dashboardAggregator;
+
+    @Mock
+    private QueueMonitor queueMonitor;
+
+    @Mock
+    private ReplicaReads replicaReads;
+
+    @Mock
+    private TicketNumberGenerator ticketNumberGenerator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private LifecycleMetrics lifecycleMetrics = new LifecycleMetrics(meterRegistry);
+
     @InjectMocks
     private TicketService ticketService;
 
     private CreateTicketRequest request;
     private Ticket ticket;
+    private TicketView view;
 
     @BeforeEach
     void setUp() {
+        lenient().when(replicaReads.find(any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         request = new CreateTicketRequest(
             "12345678-9",
             "+56912345678",
@@ -64,13 +92,26 @@ class TicketServiceTest {
             .estimatedWaitMinutes(5)
             .createdAt(LocalDateTime.now())
             .build();
+
+        view = new TicketView(
+            ticket.getUuid(),
+            "C123456",
+            QueueType.CAJA,
+            TicketStatus.EN_ESPERA,
+            1,
+            5,
+            null,
+            null,
+            ticket.getCreatedAt()
+        );
     }
 
     @Test
     void shouldCreateTicketSuccessfully() {
         // Given
+        when(ticketNumberGenerator.generateNextNumber(QueueType.CAJA)).thenReturn("C01");
         when(ticketRepository.save(any(Ticket.class))).thenReturn(ticket);
-        when(ticketRepository.countTicketsAheadInQueue(any(), any(), any())).thenReturn(0L);
+        when(ticketRepository.countTicketsAheadInQueue(any(), any())).thenReturn(0L);
         when(advisorRepository.countByStatusAndQueueType(any(), any())).thenReturn(2L);
         doNothing().when(telegramService).sendConfirmationMessage(any());
         doNothing().when(auditService).logTicketCreated(any(), any(), any());
@@ -87,16 +128,19 @@ class TicketServiceTest {
         assertThat(response.queuePosition()).isEqualTo(1);
         assertThat(response.estimatedWaitMinutes()).isEqualTo(5);
         
-        verify(ticketRepository).save(any(Ticket.class));
+        verify(ticketRepository).save(argThat(saved -> "C01".equals(saved.getTicketNumber())));
         verify(telegramService).sendConfirmationMessage(any(Ticket.class));
         verify(auditService).logTicketCreated(any(), any(), any());
+        assertThat(meterRegistry.get("ticketero.ticket.create")
+            .tags("queue_type", "CAJA", "outcome", "success")
+            .timer().count()).isEqualTo(1);
     }
 
     @Test
     void shouldFindTicketByUuid() {
         // Given
         UUID uuid = UUID.randomUUID();
-        when(ticketRepository.findByUuid(uuid)).thenReturn(Optional.of(ticket));
+        when(ticketRepository.findViewByUuid(uuid)).thenReturn(Optional.of(view));
 
         // When
         Optional<TicketResponse> response = ticketService.findByUuid(uuid);
@@ -110,7 +154,7 @@ class TicketServiceTest {
     void shouldReturnEmptyWhenTicketNotFound() {
         // Given
         UUID uuid = UUID.randomUUID();
-        when(ticketRepository.findByUuid(uuid)).thenReturn(Optional.empty());
+        when(ticketRepository.findViewByUuid(uuid)).thenReturn(Optional.empty());
 
         // When
         Optional<TicketResponse> response = ticketService.findByUuid(uuid);
@@ -123,8 +167,8 @@ class TicketServiceTest {
     void shouldGetQueuePosition() {
         // Given
         String ticketNumber = "C123456";
-        when(ticketRepository.findByTicketNumber(ticketNumber)).thenReturn(Optional.of(ticket));
-        when(ticketRepository.countTicketsAheadInQueue(any(), any(), any())).thenReturn(2L);
+        when(ticketRepository.findViewByTicketNumber(ticketNumber)).thenReturn(Optional.of(view));
+        when(ticketRepository.countTicketsAheadInQueue(any(), any())).thenReturn(2L);
         when(advisorRepository.countByStatusAndQueueType(any(), any())).thenReturn(1L);
 
         // When
@@ -137,11 +181,30 @@ class TicketServiceTest {
         assertThat(response.get().status()).isEqualTo("EN_ESPERA");
     }
 
+    @Test
+    void shouldKeepStoredPositionWhenTicketIsNotWaiting() {
+        // Given
+        String ticketNumber = "C123456";
+        TicketView attending = new TicketView(
+            view.uuid(), ticketNumber, QueueType.CAJA, TicketStatus.ATENDIENDO,
+            0, 0, "Ana", 3, view.createdAt());
+        when(ticketRepository.findViewByTicketNumber(ticketNumber)).thenReturn(Optional.of(attending));
+
+        // When
+        Optional<QueuePositionResponse> response = ticketService.getQueuePosition(ticketNumber);
+
+        // Then
+        assertThat(response).isPresent();
+        assertThat(response.get().currentPosition()).isZero();
+        assertThat(response.get().status()).isEqualTo("ATENDIENDO");
+        verify(ticketRepository, never()).countTicketsAheadInQueue(any(), any());
+    }
+
     @Test
     void shouldCalculateEstimatedWaitWithNoAdvisors() {
         // Given
         when(ticketRepository.save(any(Ticket.class))).thenReturn(ticket);
-        when(ticketRepository.countTicketsAheadInQueue(any(), any(), any())).thenReturn(4L);
+        when(ticketRepository.countTicketsAheadInQueue(any(), any())).thenReturn(4L);
         when(advisorRepository.countByStatusAndQueueType(any(), any())).thenReturn(0L);
         doNothing().when(telegramService).sendConfirmationMessage(any());
         doNothing().when(auditService).logTicketCreated(any(), any(), any());
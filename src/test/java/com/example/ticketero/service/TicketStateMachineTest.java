@@ -0,0 +1,107 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.exception.InvalidTicketTransitionException;
+import com.example.ticketero.exception.TicketConflictException;
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.model.enums.TicketStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import(TicketStateMachine.class)
+class TicketStateMachineTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TicketStateMachine ticketStateMachine;
+
+    private Advisor advisor;
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        advisor = entityManager.persist(Advisor.builder()
+            .name("Ana")
+            .moduleNumber(1)
+            .queueType(QueueType.CAJA)
+            .build());
+        ticket = entityManager.persist(Ticket.builder()
+            .ticketNumber("C001")
+            .customerRut("12345678-9")
+            .queueType(QueueType.CAJA)
+            .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void shouldAssignAndCompleteWithOneUpdateEach() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        TicketStatus beforeAssign = ticketStateMachine.assign(ticket, advisor);
+        TicketStatus beforeComplete = ticketStateMachine.transition(ticket, TicketStatus.COMPLETADO);
+        entityManager.flush();
+
+        // Then
+        assertThat(beforeAssign).isEqualTo(TicketStatus.EN_ESPERA);
+        assertThat(beforeComplete).isEqualTo(TicketStatus.ATENDIENDO);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        entityManager.clear();
+        Ticket stored = entityManager.find(Ticket.class, ticket.getId());
+        assertThat(stored.getStatus()).isEqualTo(TicketStatus.COMPLETADO);
+        assertThat(stored.getAdvisor().getId()).isEqualTo(advisor.getId());
+        assertThat(stored.getAssignedAt()).isNotNull();
+        assertThat(stored.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldRejectIllegalTransition() {
+        // When / Then
+        assertThatThrownBy(() -> ticketStateMachine.transition(ticket, TicketStatus.COMPLETADO))
+            .isInstanceOf(InvalidTicketTransitionException.class);
+        assertThat(ticket.getStatus()).isEqualTo(TicketStatus.EN_ESPERA);
+    }
+
+    @Test
+    void shouldFailFastWhenAnotherTransitionWonTheRace() {
+        // Given: otra transacción canceló el ticket después de que esta lo leyera
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Ticket t SET t.status = :status WHERE t.id = :id")
+            .setParameter("status", TicketStatus.CANCELADO)
+            .setParameter("id", ticket.getId())
+            .executeUpdate();
+
+        // When / Then
+        assertThatThrownBy(() -> ticketStateMachine.assign(ticket, advisor))
+            .isInstanceOf(TicketConflictException.class);
+        entityManager.flush();
+        entityManager.clear();
+        Ticket stored = entityManager.find(Ticket.class, ticket.getId());
+        assertThat(stored.getStatus()).isEqualTo(TicketStatus.CANCELADO);
+        assertThat(stored.getAdvisor()).isNull();
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.dto.response.TicketStatsResponse;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.service.TicketStatsService.Granularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketStatsServiceTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TicketStatsService ticketStatsService;
+    private LocalDateTime hour;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:rollup" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE tickets (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                queue_type VARCHAR(20) NOT NULL,
+                advisor_id BIGINT,
+                created_at TIMESTAMP NOT NULL,
+                assigned_at TIMESTAMP,
+                completed_at TIMESTAMP
+            )
+            """);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V8__create_ticket_stats_rollups.sql"))
+            .execute(dataSource);
+
+        ticketStatsService = new TicketStatsService(
+            jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            0,
+            24
+        );
+        hour = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(3).plusHours(10);
+    }
+
+    @Test
+    void shouldRollUpHistoryAndThenOnlyNewEvents() {
+        // Given
+        insertTicket(QueueType.CAJA, 1L, hour.plusMinutes(1), hour.plusMinutes(4), hour.plusMinutes(20));
+        insertTicket(QueueType.CAJA, 1L, hour.plusMinutes(2), hour.plusMinutes(42), null);
+        insertTicket(QueueType.CAJA, null, hour.plusMinutes(3), null, null);
+        ticketStatsService.rollUp();
+
+        // When
+        LocalDateTime recent = LocalDateTime.now().minusSeconds(30);
+        jdbcTemplate.update("UPDATE rollup_watermarks SET processed_until = ?", Timestamp.valueOf(recent.minusMinutes(1)));
+        insertTicket(QueueType.CAJA, 2L, recent.minusMinutes(10), recent, null);
+        ticketStatsService.rollUp();
+        List<TicketStatsResponse> hourly = ticketStatsService.getStats(
+            Granularity.HOURLY, hour, hour.plusHours(1), QueueType.CAJA, null);
+
+        // Then
+        assertThat(hourly).singleElement().satisfies(stats -> {
+            assertThat(stats.bucketStart()).isEqualTo(hour);
+            assertThat(stats.created()).isEqualTo(3);
+            assertThat(stats.assigned()).isEqualTo(2);
+            assertThat(stats.completed()).isEqualTo(1);
+            assertThat(stats.averageWaitSeconds()).isEqualTo((3 + 40) * 60 / 2.0);
+            assertThat(stats.averageServiceSeconds()).isEqualTo(16 * 60.0);
+            assertThat(stats.waitHistogram()).containsEntry("le_5m", 1L).containsEntry("le_60m", 1L);
+            assertThat(stats.serviceHistogram()).containsEntry("le_30m", 1L);
+        });
+        assertThat(ticketStatsService.getStats(Granularity.HOURLY, hour, recent.plusHours(1), null, 2L))
+            .singleElement().satisfies(stats -> {
+                assertThat(stats.assigned()).isEqualTo(1);
+                assertThat(stats.waitHistogram()).containsEntry("le_15m", 1L);
+            });
+    }
+
+    @Test
+    void shouldRebuildDailyRowsFromHourlyRollups() {
+        // Given
+        insertTicket(QueueType.CAJA, null, hour.plusMinutes(10), null, null);
+        insertTicket(QueueType.CAJA, null, hour.plusHours(1).plusMinutes(10), null, null);
+        ticketStatsService.rollUp();
+
+        // When
+        List<TicketStatsResponse> daily = ticketStatsService.getStats(
+            Granularity.DAILY, hour, hour.plusDays(1), QueueType.CAJA, null);
+
+        // Then
+        assertThat(daily).singleElement().satisfies(stats -> {
+            assertThat(stats.bucketStart()).isEqualTo(hour.truncatedTo(ChronoUnit.DAYS));
+            assertThat(stats.created()).isEqualTo(2);
+        });
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT processed_until FROM rollup_watermarks WHERE job_name = ?", Timestamp.class,
+            TicketStatsService.JOB_NAME)).isNotNull();
+    }
+
+    @Test
+    void shouldNotCountWindowsTwiceWhenNodesRollUpConcurrently() throws Exception {
+        // Given
+        insertTicket(QueueType.CAJA, 1L, hour.plusMinutes(1), hour.plusMinutes(4), hour.plusMinutes(20));
+        insertTicket(QueueType.CAJA, null, hour.plusHours(5), null, null);
+        insertTicket(QueueType.CAJA, null, hour.plusDays(1), null, null);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        List<TicketStatsService> nodes = List.of(
+            new TicketStatsService(jdbcTemplate, transactionTemplate, 0, 1),
+            new TicketStatsService(jdbcTemplate, transactionTemplate, 0, 1),
+            new TicketStatsService(jdbcTemplate, transactionTemplate, 0, 1));
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size());
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> windows = new ArrayList<>();
+        for (TicketStatsService node : nodes) {
+            windows.add(executor.submit(() -> {
+                start.await();
+                return node.rollUp();
+            }));
+        }
+        start.countDown();
+        int processed = 0;
+        for (Future<Integer> future : windows) {
+            processed += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        long hourWindows = ChronoUnit.HOURS.between(hour.plusSeconds(59), LocalDateTime.now()) + 1;
+        assertThat(processed).isBetween((int) hourWindows - 1, (int) hourWindows);
+        assertThat(ticketStatsService.getStats(Granularity.DAILY, hour, LocalDateTime.now(), QueueType.CAJA, null))
+            .extracting(TicketStatsResponse::created)
+            .containsExactly(2L, 1L);
+        assertThat(ticketStatsService.getStats(Granularity.HOURLY, hour, hour.plusHours(1), QueueType.CAJA, null))
+            .singleElement().satisfies(stats -> {
+                assertThat(stats.assigned()).isEqualTo(1);
+                assertThat(stats.completed()).isEqualTo(1);
+            });
+    }
+
+    private void insertTicket(QueueType queueType, Long advisorId, LocalDateTime createdAt,
+                              LocalDateTime assignedAt, LocalDateTime completedAt) {
+        jdbcTemplate.update(
+            "INSERT INTO tickets (queue_type, advisor_id, created_at, assigned_at, completed_at) VALUES (?, ?, ?, ?, ?)",
+            queueType.name(), advisorId, Timestamp.valueOf(createdAt),
+            assignedAt != null ? Timestamp.valueOf(assignedAt) : null,
+            completedAt != null ? Timestamp.valueOf(completedAt) : null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ticketero.service;
+
+import com.example.ticketero.model.dto.response.WaitTimePercentiles;
+import com.example.ticketero.model.entity.Advisor;
+import com.example.ticketero.model.entity.Ticket;
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.service.WaitTimeAnalytics.Dimension;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WaitTimeAnalyticsTest {
+
+    private final WaitTimeAnalytics analytics = new WaitTimeAnalytics();
+
+    @Test
+    void shouldReportPercentilesPerQueueAndMergedTotal() {
+        // Given
+        Advisor advisor = Advisor.builder().id(7L).build();
+        LocalDateTime created = LocalDateTime.now().minusHours(2);
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            Ticket ticket = Ticket.builder()
+                .queueType(minutes % 2 == 0 ? QueueType.CAJA : QueueType.EMPRESAS)
+                .advisor(advisor)
+                .createdAt(created)
+                .assignedAt(created.plusMinutes(minutes))
+                .build();
+            analytics.onTicketAssigned(ticket);
+        }
+
+        // When
+        List<WaitTimePercentiles> byQueue = analytics.getPercentiles(Dimension.QUEUE);
+        List<WaitTimePercentiles> byAdvisor = analytics.getPercentiles(Dimension.ADVISOR);
+
+        // Then
+        WaitTimePercentiles total = byQueue.stream().filter(p -> p.key().equals("ALL")).findFirst().orElseThrow();
+        assertThat(byQueue).hasSize(3);
+        assertThat(total.count()).isEqualTo(100);
+        assertThat(total.p50Seconds()).isCloseTo(50 * 60, within(60L));
+        assertThat(total.p99Seconds()).isCloseTo(99 * 60, within(60L));
+        assertThat(byAdvisor).singleElement().satisfies(p -> {
+            assertThat(p.key()).isEqualTo("7");
+            assertThat(p.metric()).isEqualTo("WAIT");
+        });
+    }
+
+    @Test
+    void shouldRecordServiceTimeOnCompletion() {
+        // Given
+        LocalDateTime assigned = LocalDateTime.now().minusMinutes(30);
+        Ticket ticket = Ticket.builder()
+            .queueType(QueueType.PERSONAL_BANKER)
+            .assignedAt(assigned)
+            .completedAt(assigned.plusMinutes(12))
+            .build();
+
+        // When
+        analytics.onTicketCompleted(ticket);
+
+        // Then
+        assertThat(analytics.getPercentiles(Dimension.HOUR)).singleElement().satisfies(p -> {
+            assertThat(p.metric()).isEqualTo("SERVICE");
+            assertThat(p.p50Seconds()).isCloseTo(12 * 60, within(10L));
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.ticketero.util;
+
+import com.example.ticketero.model.enums.QueueType;
+import com.example.ticketero.repository.TicketNumberSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@ActiveProfiles("test")
+@Import(TicketNumberGenerator.class)
+class TicketNumberGeneratorTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TicketNumberGenerator ticketNumberGenerator;
+
+    @Autowired
+    private TicketNumberSequenceRepository sequenceRepository;
+
+    @Test
+    void shouldIssueConsecutiveNumbersPerQueue() {
+        // When
+        String first = ticketNumberGenerator.generateNextNumber(QueueType.CAJA);
+        String second = ticketNumberGenerator.generateNextNumber(QueueType.CAJA);
+        String otherQueue = ticketNumberGenerator.generateNextNumber(QueueType.PERSONAL_BANKER);
+
+        // Then
+        assertThat(first).isEqualTo("C01");
+        assertThat(second).isEqualTo("C02");
+        assertThat(otherQueue).isEqualTo("P01");
+    }
+
+    @Test
+    void shouldRestartSequenceOnANewDay() {
+        // Given
+        ticketNumberGenerator.generateNextNumber(QueueType.EMPRESAS);
+        ticketNumberGenerator.generateNextNumber(QueueType.EMPRESAS);
+        entityManager.getEntityManager()
+            .createQuery("UPDATE TicketNumberSequence s SET s.sequenceDay = :yesterday")
+            .setParameter("yesterday", LocalDate.now().minusDays(1))
+            .executeUpdate();
+
+        // When
+        String number = ticketNumberGenerator.generateNextNumber(QueueType.EMPRESAS);
+
+        // Then
+        assertThat(number).isEqualTo("E01");
+        assertThat(sequenceRepository.findLastValue(QueueType.EMPRESAS)).isEqualTo(1);
+    }
+}